@@ -0,0 +1,188 @@
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공고 등록(createJob) 쓰기 지연 비교용 벤치마크 (단일 파일 실행, 별도 의존성 없음)
+ *
+ * 전형 단계 10개 + 문항 20개짜리 공고를 정해진 건수만큼 등록하고, 처리량/p50/p99 지연(커밋 포함)을 출력합니다.
+ * 측정 후 등록한 공고는 삭제하므로 같은 DB에서 반복 측정할 수 있습니다.
+ *
+ * 실행 순서 (같은 DB, 같은 옵션으로 두 번 측정하여 비교):
+ *   1) IDENTITY: 시퀀스 전환 이전 커밋을 체크아웃하고 db/005를 적용하지 않은 DB로 기동
+ *      ./gradlew bootRun
+ *      java bench/JobWriteBenchmark.java --login recruiter@example.com:password > bench_identity.txt
+ *   2) pooled 시퀀스: db/005를 적용한 DB로 현재 버전을 기동
+ *      ./gradlew bootRun
+ *      java bench/JobWriteBenchmark.java --login recruiter@example.com:password > bench_pooled.txt
+ *   INSERT 왕복 횟수는 두 실행 모두 --spring.jpa.properties.hibernate.generate_statistics=true로 기동하면
+ *   세션별 "JDBC statements / JDBC batches" 로그로 확인할 수 있습니다.
+ *
+ * 옵션 (기본값):
+ *   --base-url http://localhost:8080   --company-id 1 --user-id 1 --category-id 1
+ *   --steps 10 --questions 20          --requests 500 --warmup 50 --concurrency 4
+ *   --login email:password (공고 등록은 ADMIN/RECRUITER 로그인 필요, 세션 쿠키 사용)
+ */
+public class JobWriteBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = option(args, "--base-url", "http://localhost:8080");
+        long companyId = Long.parseLong(option(args, "--company-id", "1"));
+        long userId = Long.parseLong(option(args, "--user-id", "1"));
+        long categoryId = Long.parseLong(option(args, "--category-id", "1"));
+        int steps = Integer.parseInt(option(args, "--steps", "10"));
+        int questions = Integer.parseInt(option(args, "--questions", "20"));
+        int requests = Integer.parseInt(option(args, "--requests", "500"));
+        int warmup = Integer.parseInt(option(args, "--warmup", "50"));
+        int concurrency = Integer.parseInt(option(args, "--concurrency", "4"));
+        String login = option(args, "--login", null);
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        if (login != null) {
+            login(client, baseUrl, login);
+        }
+        String createUrl = baseUrl + "/api/jobs/company/" + companyId + "/user/" + userId + "/category/" + categoryId;
+
+        System.out.printf(Locale.ROOT, "base-url=%s steps=%d questions=%d requests=%d concurrency=%d%n",
+                baseUrl, steps, questions, requests, concurrency);
+
+        List<Long> createdIds = Collections.synchronizedList(new ArrayList<>());
+        try {
+            System.out.println("warm-up " + warmup + " requests ...");
+            run(client, createUrl, steps, questions, warmup, concurrency, createdIds);
+
+            long started = System.nanoTime();
+            Result result = run(client, createUrl, steps, questions, requests, concurrency, createdIds);
+            result.print(steps, questions, (System.nanoTime() - started) / 1_000_000_000.0);
+        } finally {
+            delete(client, baseUrl, createdIds);
+        }
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, String createUrl, int steps, int questions,
+                              int requests, int concurrency, List<Long> createdIds) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        long[] latencies = new long[requests];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            for (int t = 0; t < concurrency; t++) {
+                executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(createUrl))
+                                .timeout(Duration.ofSeconds(60))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(jobJson(i, steps, questions)))
+                                .build();
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            long elapsed = System.nanoTime() - begin;
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            createdIds.add(Long.parseLong(response.body().trim()));
+                            latencies[completed.getAndIncrement()] = elapsed;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } // 모든 요청이 끝날 때까지 대기
+
+        return new Result(Arrays.copyOf(latencies, completed.get()), errors.get());
+    }
+
+    // 전형 단계 steps개, 문항 questions개짜리 공고 본문
+    private static String jobJson(int seq, int steps, int questions) {
+        StringBuilder json = new StringBuilder()
+                .append("{\"title\":\"bench job ").append(seq).append("\"")
+                .append(",\"content\":\"write benchmark\"")
+                .append(",\"location\":\"Seoul\",\"employmentType\":\"FULL_TIME\"")
+                .append(",\"steps\":[");
+        for (int i = 0; i < steps; i++) {
+            json.append(i > 0 ? "," : "").append("{\"name\":\"step ").append(i + 1).append("\",\"order\":").append(i + 1).append("}");
+        }
+        json.append("],\"questions\":[");
+        for (int i = 0; i < questions; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"text\":\"question ").append(i + 1)
+                    .append("\",\"type\":\"QUESTION\",\"isRequired\":\"Y\",\"order\":").append(i + 1).append("}");
+        }
+        return json.append("]}").toString();
+    }
+
+    // 측정 중 등록한 공고 삭제 (비교 대상인 이전 커밋에도 있는 단건 삭제 API 사용)
+    // 삭제에 실패하면 다음 측정이 남은 공고 위에서 돌게 되므로 상태 코드를 확인하고 바로 중단
+    private static void delete(HttpClient client, String baseUrl, List<Long> ids) throws Exception {
+        for (Long id : ids) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/jobs/" + id))
+                    .DELETE()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("delete failed: job " + id + " -> "
+                        + response.statusCode() + " " + response.body());
+            }
+        }
+        System.out.println("deleted " + ids.size() + " benchmark jobs");
+    }
+
+    private static void login(HttpClient client, String baseUrl, String login) throws Exception {
+        String[] parts = login.split(":", 2);
+        String body = "{\"email\":\"" + parts[0] + "\",\"password\":\"" + parts[1] + "\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("login failed: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(long[] latencies, int errors) {
+
+        void print(int steps, int questions, double seconds) {
+            Arrays.sort(latencies);
+            System.out.printf(Locale.ROOT,
+                    "createJob steps=%d questions=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                    steps, questions, latencies.length, errors, latencies.length / seconds,
+                    percentile(0.50), percentile(0.99), percentile(1.0));
+        }
+
+        private double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
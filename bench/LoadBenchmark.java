@@ -0,0 +1,227 @@
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드 모드 비교용 부하 테스트 (단일 파일 실행, 별도 의존성 없음)
+ *
+ * 공고 목록 조회(빠른 요청)와 챗봇 질문(느린 외부 호출)을 동시에 보내고, 요청 종류별 처리량/p50/p99 지연을 출력합니다.
+ * 챗봇 외부 서버(Flask, 5000 포트) 대신 지정한 지연 후 응답하는 스텁 서버를 함께 띄우므로 결과를 재현할 수 있습니다.
+ *
+ * 실행 순서 (같은 DB, 같은 옵션으로 두 번 측정하여 비교):
+ *   1) ./gradlew bootRun --args='--spring.threads.virtual.enabled=false'
+ *      java bench/LoadBenchmark.java --login recruiter@example.com:password > bench_off.txt
+ *   2) ./gradlew bootRun --args='--spring.threads.virtual.enabled=true'
+ *      java bench/LoadBenchmark.java --login recruiter@example.com:password > bench_on.txt
+ *
+ * 옵션 (기본값):
+ *   --base-url http://localhost:8080   --fast-path /api/jobs/open?page=0&size=20
+ *   --fast-concurrency 50              --slow-concurrency 300 (0이면 챗봇 요청 없음)
+ *   --duration 30 (초)                 --warmup 10 (초)
+ *   --stub-port 5000                   --stub-delay-ms 2000 (0이면 스텁 서버를 띄우지 않음)
+ *   --login email:password (챗봇 API는 로그인 필요, 세션 쿠키 사용)
+ */
+public class LoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = option(args, "--base-url", "http://localhost:8080");
+        String fastPath = option(args, "--fast-path", "/api/jobs/open?page=0&size=20");
+        int fastConcurrency = Integer.parseInt(option(args, "--fast-concurrency", "50"));
+        int slowConcurrency = Integer.parseInt(option(args, "--slow-concurrency", "300"));
+        int durationSeconds = Integer.parseInt(option(args, "--duration", "30"));
+        int warmupSeconds = Integer.parseInt(option(args, "--warmup", "10"));
+        int stubPort = Integer.parseInt(option(args, "--stub-port", "5000"));
+        long stubDelayMillis = Long.parseLong(option(args, "--stub-delay-ms", "2000"));
+        String login = option(args, "--login", null);
+
+        HttpServer stub = stubDelayMillis > 0 ? startStub(stubPort, stubDelayMillis) : null;
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        if (login != null) {
+            login(client, baseUrl, login);
+        }
+
+        HttpRequest fast = HttpRequest.newBuilder(URI.create(baseUrl + fastPath))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        HttpRequest slow = HttpRequest.newBuilder(URI.create(baseUrl + "/api/chatbot/ask"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"채용 절차가 어떻게 되나요?\"}"))
+                .build();
+
+        System.out.printf(Locale.ROOT, "base-url=%s fast=%s x%d slow=chatbot x%d stub-delay=%dms duration=%ds%n",
+                baseUrl, fastPath, fastConcurrency, slowConcurrency, stubDelayMillis, durationSeconds);
+
+        System.out.println("warm-up " + warmupSeconds + "s ...");
+        run(client, fast, fastConcurrency, slow, slowConcurrency, warmupSeconds);
+
+        List<Result> results = run(client, fast, fastConcurrency, slow, slowConcurrency, durationSeconds);
+        for (Result result : results) {
+            result.print(durationSeconds);
+        }
+
+        if (stub != null) {
+            stub.stop(0);
+        }
+        System.exit(0);
+    }
+
+    private static List<Result> run(HttpClient client, HttpRequest fast, int fastConcurrency,
+                                    HttpRequest slow, int slowConcurrency, int seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < fastConcurrency; i++) {
+            workers.add(new Worker("jobs", client, fast, running));
+        }
+        for (int i = 0; i < slowConcurrency; i++) {
+            workers.add(new Worker("chatbot", client, slow, running));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers.forEach(executor::submit);
+            Thread.sleep(seconds * 1000L);
+            running.set(false);
+        } // 진행 중인 요청이 끝날 때까지 대기
+
+        Result jobs = new Result("jobs");
+        Result chatbot = new Result("chatbot");
+        for (Worker worker : workers) {
+            (worker.name.equals("jobs") ? jobs : chatbot).merge(worker);
+        }
+        return slowConcurrency > 0 ? List.of(jobs, chatbot) : List.of(jobs);
+    }
+
+    private static void login(HttpClient client, String baseUrl, String login) throws Exception {
+        String[] parts = login.split(":", 2);
+        String body = "{\"email\":\"" + parts[0] + "\",\"password\":\"" + parts[1] + "\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("login failed: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    // 챗봇 외부 서버 대역: 지정한 시간만큼 지연 후 고정 답변
+    private static HttpServer startStub(int port, long delayMillis) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"answer\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private static class Worker implements Runnable {
+
+        private final String name;
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final AtomicBoolean running;
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        Worker(String name, HttpClient client, HttpRequest request, AtomicBoolean running) {
+            this.name = name;
+            this.client = client;
+            this.request = request;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                long started = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        errors++;
+                        continue;
+                    }
+                } catch (Exception e) {
+                    errors++;
+                    continue;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - started;
+            }
+        }
+    }
+
+    private static class Result {
+
+        private final String name;
+        private long[] latencies = new long[0];
+        private int errors;
+
+        Result(String name) {
+            this.name = name;
+        }
+
+        void merge(Worker worker) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + worker.count);
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            errors += worker.errors;
+        }
+
+        void print(int seconds) {
+            Arrays.sort(latencies);
+            System.out.printf(Locale.ROOT, "%-8s requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                    name, latencies.length, errors, latencies.length / (double) seconds,
+                    percentile(0.50), percentile(0.99), percentile(1.0));
+        }
+
+        private double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
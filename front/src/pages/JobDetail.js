@@ -154,7 +154,7 @@ const JobDetail = () => {
                                             <div key={idx} className="bg-white p-3 rounded-3 border shadow-sm">
                                                 <div className="d-flex justify-content-between mb-2">
                                                     <span className="badge bg-light text-primary border border-primary-subtle">
-                                                        Q{q.order}
+                                                        Q{idx + 1}
                                                     </span>
                                                     {q.isRequired === 'Y' ? (
                                                         <span className="text-danger small fw-bold">• 필수 답변</span>
@@ -225,7 +225,7 @@ const JobDetail = () => {
                                         )}
                                         <div className="bg-success text-white rounded-circle d-flex align-items-center justify-content-center me-3 shadow-sm"
                                              style={{ width: '30px', height: '30px', zIndex: 1, fontWeight: 'bold', fontSize:'0.9rem' }}>
-                                            {step.order}
+                                            {idx + 1}
                                         </div>
                                         <div className="fw-bold text-dark pt-1">{step.name}</div>
                                     </div>
@@ -352,7 +352,7 @@ const JobPostPage = () => {
                             </div>
                             {jobData.questions.map((q, idx) => (
                                 <div key={idx} className="bg-light p-3 rounded-3 mb-3 border border-light d-flex gap-2 align-items-center">
-                                    <div className="badge bg-secondary rounded-pill me-2">{q.order}</div>
+                                    <div className="badge bg-secondary rounded-pill me-2">{idx + 1}</div>
                                     <div className="flex-grow-1">
                                         <input
                                             type="text"
@@ -420,7 +420,7 @@ const JobPostPage = () => {
                             </div>
                             {jobData.steps.map((step, idx) => (
                                 <div key={idx} className="d-flex align-items-center mb-2 bg-white p-2 rounded-3 border shadow-sm">
-                                    <div className="badge bg-success rounded-pill me-2" style={{width:'25px'}}>{step.order}</div>
+                                    <div className="badge bg-success rounded-pill me-2" style={{width:'25px'}}>{idx + 1}</div>
                                     <input
                                         type="text"
                                         className="form-control border-0 fw-semibold"
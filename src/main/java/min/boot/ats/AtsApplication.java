@@ -3,11 +3,13 @@ package min.boot.ats;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling // JobScheduler
 @EnableJpaAuditing
+@EnableAsync // OpenJobSnapshotStore 시작 시 적재
 public class AtsApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,45 @@
+package min.boot.ats.component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 캐시 미스 로드를 호출 스레드에서, 캐시 잠금 밖에서 실행
+ * Cache.get(key, loader)는 로더를 ConcurrentHashMap.compute(내부 synchronized) 안에서 실행하므로,
+ * 로더가 DB를 조회하는 동안 가상 스레드가 캐리어 스레드를 고정(pinning)합니다.
+ * AsyncCache에는 미완료 future만 등록하고(잠금 구간이 짧음) 로드는 잠금 밖에서 수행하여 future를 완료합니다.
+ *
+ * - 같은 키의 동시 미스는 등록된 future를 기다리므로 한 번만 로드합니다. (기다리는 동안 가상 스레드는 캐리어를 반납)
+ * - 로드 중 무효화되면 결과는 캐시에 남지 않고, 실패한 로드는 캐시에 남기지 않습니다.
+ * - 적중/미스/로드 시간 통계는 Caffeine이 그대로 기록합니다.
+ * - 로더는 호출 스레드에서 실행되므로 트랜잭션/영속성 컨텍스트를 그대로 사용할 수 있습니다.
+ */
+final class CacheLoadSupport {
+
+    private CacheLoadSupport() {
+    }
+
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            CompletableFuture<V> pending = new CompletableFuture<>();
+            CompletableFuture<V> future = cache.get(key, (k, executor) -> pending);
+            if (future == pending) {
+                try {
+                    V value = loader.apply(key);
+                    pending.complete(value);
+                    return value;
+                } catch (RuntimeException | Error e) {
+                    // 실패는 null로 완료 → Caffeine이 (경고 로그 없이) 항목을 제거하고, 기다리던 호출자는 직접 다시 로드
+                    pending.complete(null);
+                    throw e;
+                }
+            }
+            V value = future.join();
+            if (value != null) {
+                return value;
+            }
+        }
+    }
+}
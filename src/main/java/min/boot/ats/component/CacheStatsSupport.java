@@ -0,0 +1,28 @@
+package min.boot.ats.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 관리자 API 응답용 Caffeine 캐시 통계 변환
+ */
+final class CacheStatsSupport {
+
+    private CacheStatsSupport() {
+    }
+
+    static Map<String, Object> toMap(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", cache.estimatedSize());
+        map.put("hits", stats.hitCount());
+        map.put("misses", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictions", stats.evictionCount());
+        map.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return map;
+    }
+}
@@ -0,0 +1,139 @@
+package min.boot.ats.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.dto.CategoryResponseDto;
+import min.boot.ats.event.CategoryChangedEvent;
+import min.boot.ats.repo.JobCategoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 카테고리 트리 캐시
+ * job_categories 전체를 한 번의 쿼리로 읽어 메모리에서 트리(깊이 제한 없음)를 조립하고, 불변 스냅샷으로 보관합니다.
+ * 카테고리 등록/수정/삭제(CategoryChangedEvent, 커밋 이후) 시에만 무효화되며 다음 조회에서 다시 만듭니다.
+ *
+ * 스냅샷 버전은 전체 (id, version) 조합의 해시로, 클라이언트는 ETag(If-None-Match)로 재조회를 생략할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final JobCategoryRepository categoryRepository;
+
+    // 무효화 세대: 무효화 이전에 시작된 조립 결과가 최신으로 사용되는 것을 막습니다.
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock buildLock = new ReentrantLock(); // synchronized는 DB 조회 중 가상 스레드를 고정(pinning)하므로 사용하지 않음
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        buildLock.lock();
+        try {
+            current = snapshot;
+            long gen = generation.get();
+            if (current != null && current.generation() == gen) {
+                return current;
+            }
+            current = build(gen);
+            snapshot = current;
+            return current;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot build(long gen) {
+        List<Object[]> rows = categoryRepository.findAllForTree(); // displayOrder, id 순 정렬
+
+        Map<Long, List<Object[]>> childrenByParentId = new HashMap<>();
+        List<Object[]> roots = new ArrayList<>();
+        long hash = 1;
+        for (Object[] row : rows) {
+            Long parentId = (Long) row[3];
+            if (parentId == null) {
+                roots.add(row);
+            } else {
+                childrenByParentId.computeIfAbsent(parentId, k -> new ArrayList<>()).add(row);
+            }
+            hash = 31 * hash + ((Number) row[0]).longValue();
+            hash = 31 * hash + ((Number) row[4]).longValue();
+        }
+
+        Map<Long, CategoryResponseDto> nodesById = new HashMap<>();
+        List<CategoryResponseDto> tree = new ArrayList<>(roots.size());
+        for (Object[] root : roots) {
+            tree.add(toNode(root, childrenByParentId, nodesById));
+        }
+        if (nodesById.size() < rows.size()) {
+            // 부모 순환 등으로 최상위에서 도달할 수 없는 카테고리
+            log.warn("카테고리 트리에 포함되지 않은 카테고리 {}건", rows.size() - nodesById.size());
+        }
+
+        String version = "categories-" + rows.size() + "-" + Long.toHexString(hash);
+        return new Snapshot(gen, version, List.copyOf(tree), Map.copyOf(nodesById));
+    }
+
+    private CategoryResponseDto toNode(Object[] row, Map<Long, List<Object[]>> childrenByParentId,
+                                       Map<Long, CategoryResponseDto> nodesById) {
+        Long id = (Long) row[0];
+        nodesById.put(id, null); // 방문 표시 (순환 참조 방어)
+
+        List<CategoryResponseDto> children = new ArrayList<>();
+        for (Object[] child : childrenByParentId.getOrDefault(id, List.of())) {
+            if (!nodesById.containsKey((Long) child[0])) {
+                children.add(toNode(child, childrenByParentId, nodesById));
+            }
+        }
+        CategoryResponseDto node = new CategoryResponseDto(id, (String) row[1], (Integer) row[2], (Long) row[3], children);
+        nodesById.put(id, node);
+        return node;
+    }
+
+    /**
+     * 카테고리 트리 불변 스냅샷
+     *
+     * @param version 클라이언트 재조회 생략용 버전 (ETag 값)
+     */
+    public record Snapshot(long generation, String version, List<CategoryResponseDto> roots,
+                           Map<Long, CategoryResponseDto> nodesById) {
+
+        /**
+         * 카테고리 자신과 모든 하위 카테고리 ID (오름차순 정렬, 없는 카테고리면 빈 배열)
+         */
+        public long[] subtreeIds(long categoryId) {
+            CategoryResponseDto node = nodesById.get(categoryId);
+            if (node == null) {
+                return new long[0];
+            }
+            List<Long> ids = new ArrayList<>();
+            Deque<CategoryResponseDto> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                CategoryResponseDto current = stack.pop();
+                ids.add(current.getId());
+                current.getChildren().forEach(stack::push);
+            }
+            return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package min.boot.ats.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 챗봇 답변 캐시 (정규화한 질문 → 답변)
+ * 챗봇 질문의 상당수가 같은 FAQ(비밀번호 재설정, 공고 등록 방법 등)이므로, 답변 생성에 수 초가 걸리는 Flask 호출을 줄입니다.
+ *
+ * - 키: 전각/반각·대소문자를 통일하고 띄어쓰기/문장부호 차이를 무시한 질문 ("공고 등록 방법?" == "공고등록방법")
+ * - 질문(message) 외 다른 필드가 있으면 맥락에 따라 답이 달라질 수 있으므로 캐시하지 않습니다.
+ * - 정상 응답만 보관하고, 타임아웃/오류/서킷 차단 안내 문구는 보관하지 않습니다.
+ * - 적중/미스 지표는 Micrometer(cache.gets 등, cache=chatbotAnswers)로 노출됩니다.
+ * - 챗봇 학습 데이터를 갱신하면 관리자 API로 비웁니다.
+ */
+@Component
+public class ChatbotAnswerCache {
+
+    private static final String MESSAGE_FIELD = "message";
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final int MAX_ENTRIES = 2_000;
+    private static final int MAX_QUESTION_LENGTH = 300; // 긴 질문은 반복될 가능성이 낮음
+
+    private final Cache<String, Map<String, Object>> cache;
+    private final Counter bypassed;
+
+    public ChatbotAnswerCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        this.bypassed = Counter.builder("chatbot.cache.bypass")
+                .description("캐시 대상이 아니어서 바로 전달한 챗봇 질문 수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chatbotAnswers");
+    }
+
+    /**
+     * 캐시 키 (캐시 대상이 아니면 null)
+     */
+    public String key(Map<String, String> request) {
+        String question = request.get(MESSAGE_FIELD);
+        if (request.size() != 1 || question == null || question.length() > MAX_QUESTION_LENGTH) {
+            bypassed.increment();
+            return null;
+        }
+        String key = normalize(question);
+        if (key.isEmpty()) {
+            bypassed.increment();
+            return null;
+        }
+        return key;
+    }
+
+    public Map<String, Object> getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, Map<String, Object> answer) {
+        cache.put(key, answer);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = CacheStatsSupport.toMap(cache);
+        stats.put("bypassed", (long) bypassed.count());
+        return stats;
+    }
+
+    // 전각/반각, 대소문자를 통일한 뒤 문자·숫자만 남깁니다. (띄어쓰기/문장부호/기호 차이 무시)
+    static String normalize(String question) {
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+}
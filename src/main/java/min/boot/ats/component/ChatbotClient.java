@@ -0,0 +1,248 @@
+package min.boot.ats.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 챗봇(Flask) 서버 호출 클라이언트
+ * 외부 AI 서버가 느려지거나 멈춰도 요청 스레드와 커넥션이 묶이지 않도록 비동기로 호출합니다.
+ *
+ * - 커넥션 풀(keep-alive)을 공유하는 HttpClient 하나를 재사용, 연결/응답 타임아웃을 짧게 지정
+ * - 벌크헤드: 동시 호출을 MAX_CONCURRENT건으로 제한하고, 초과분은 대기 없이 즉시 거절 (커넥션 수도 이 한도를 넘지 않음)
+ * - 서킷 브레이커: 최근 호출 실패율이 높으면 일정 시간 호출 없이 즉시 실패 (CircuitBreaker)
+ * - 스트리밍 호출은 본문을 끝까지 받을 때까지 진행 중으로 보아 벌크헤드 자리/지연 시간/서킷 기록에 반영합니다.
+ * - 지표: chatbot.upstream{mode, outcome} 지연 시간, chatbot.upstream.rejected{reason}, 진행 중 호출 수, 서킷 상태, 최근 실패율
+ */
+@Component
+public class ChatbotClient {
+
+    private static final String ASK_PATH = "/api/chatbot/ask";
+    private static final String STREAM_PATH = "/api/chatbot/ask/stream";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(15); // 답변 생성 시간 포함
+    private static final int MAX_CONCURRENT = 50;
+
+    // 서킷 브레이커: 최근 20건 중 10건 이상 기록되고 실패율 50% 이상이면 30초간 차단
+    private static final int CIRCUIT_WINDOW = 20;
+    private static final int CIRCUIT_MIN_CALLS = 10;
+    private static final double CIRCUIT_FAILURE_RATE = 0.5;
+    private static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final int maxConcurrent;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ChatbotClient(@Value("${chatbot.base-url:http://localhost:5000}") String baseUrl,
+                         ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(baseUrl, CONNECT_TIMEOUT, READ_TIMEOUT, MAX_CONCURRENT,
+                new CircuitBreaker(CIRCUIT_WINDOW, CIRCUIT_MIN_CALLS, CIRCUIT_FAILURE_RATE, CIRCUIT_OPEN_DURATION),
+                objectMapper, meterRegistry);
+    }
+
+    ChatbotClient(String baseUrl, Duration connectTimeout, Duration readTimeout, int maxConcurrent,
+                  CircuitBreaker circuitBreaker, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.readTimeout = readTimeout;
+        this.maxConcurrent = maxConcurrent;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // Flask 서버는 HTTP/2(h2c) 업그레이드를 지원하지 않음
+                .connectTimeout(connectTimeout)
+                .build();
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("chatbot.upstream.in_flight", this, client -> client.inFlight())
+                .description("챗봇 서버로 진행 중인 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("챗봇 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.upstream.failure_rate", circuitBreaker, CircuitBreaker::failureRate)
+                .description("챗봇 서버 최근 호출 실패율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 질문 전달 후 답변(JSON 객체) 반환
+     * 거절(벌크헤드/서킷)/타임아웃/연결 실패/오류 응답은 예외로 완료됩니다.
+     */
+    public CompletableFuture<Map<String, Object>> ask(Map<String, String> request) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + ASK_PATH))
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return send("ask", httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> parse(response.body()));
+    }
+
+    /**
+     * 질문 전달 후 답변을 생성되는 대로 텍스트 조각 단위로 onChunk에 전달 (외부 서버 응답 스레드에서 호출)
+     * 반환된 future는 답변이 끝나면 완료되고, 취소하면 진행 중인 외부 호출을 끊습니다.
+     * onChunk에서 예외가 나면 외부 호출을 끊고 CancellationException으로 완료됩니다.
+     */
+    public CompletableFuture<Void> stream(Map<String, String> request, Consumer<String> onChunk) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + STREAM_PATH))
+                .timeout(readTimeout) // 첫 응답(헤더)까지, 이후 조각 간격은 TextStreamSubscriber가 확인
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse.BodyHandler<Void> handler = info -> info.statusCode() >= 400
+                ? HttpResponse.BodySubscribers.replacing(null)
+                : new TextStreamSubscriber(onChunk, readTimeout);
+
+        CompletableFuture<HttpResponse<Void>> call = send("stream", httpRequest, handler);
+        CompletableFuture<Void> result = call.thenApply(response -> null);
+        result.whenComplete((ignored, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitState", circuitBreaker.state());
+        stats.put("failureRate", circuitBreaker.failureRate());
+        stats.put("inFlight", inFlight());
+        stats.put("maxConcurrent", maxConcurrent);
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.shutdownNow();
+    }
+
+    /**
+     * 벌크헤드/서킷 확인 후 비동기 호출
+     * 반환된 future를 취소하면 진행 중인 외부 호출도 취소됩니다.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(String mode, HttpRequest request,
+                                                        HttpResponse.BodyHandler<T> handler) {
+        if (!bulkhead.tryAcquire()) {
+            meterRegistry.counter("chatbot.upstream.rejected", "reason", "bulkhead").increment();
+            return CompletableFuture.failedFuture(new IllegalStateException("챗봇 서버 동시 호출 한도를 초과했습니다."));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            meterRegistry.counter("chatbot.upstream.rejected", "reason", "circuit_open").increment();
+            return CompletableFuture.failedFuture(new IllegalStateException("챗봇 서버 장애로 호출을 차단 중입니다."));
+        }
+
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<T>> upstream;
+        try {
+            upstream = httpClient.sendAsync(request, handler);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        upstream.whenComplete((response, error) -> {
+            bulkhead.release();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            String outcome = outcome(response, cause);
+            meterRegistry.timer("chatbot.upstream", "mode", mode, "outcome", outcome)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            switch (outcome) {
+                case "success", "client_error" -> circuitBreaker.onSuccess(); // 4xx는 서버가 살아 있음
+                case "cancelled" -> circuitBreaker.onIgnored();
+                default -> circuitBreaker.onFailure();
+            }
+
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            } else if (response.statusCode() >= 400) {
+                result.completeExceptionally(new IllegalStateException("챗봇 서버 응답 오류: HTTP " + response.statusCode()));
+            } else {
+                result.complete(response);
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                upstream.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static String outcome(HttpResponse<?> response, Throwable error) {
+        if (error instanceof CancellationException) {
+            return "cancelled";
+        }
+        if (error instanceof HttpTimeoutException) {
+            return "timeout"; // 연결 타임아웃(HttpConnectTimeoutException) 포함
+        }
+        if (error != null) {
+            return "io_error";
+        }
+        int status = response.statusCode();
+        return status >= 500 ? "server_error" : status >= 400 ? "client_error" : "success";
+    }
+
+    private Map<String, Object> parse(byte[] body) {
+        try {
+            return objectMapper.readValue(body, MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("챗봇 서버 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private int inFlight() {
+        return maxConcurrent - bulkhead.availablePermits();
+    }
+}
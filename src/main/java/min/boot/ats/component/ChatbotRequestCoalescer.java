@@ -0,0 +1,112 @@
+package min.boot.ats.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 챗봇 질문의 동시 요청 병합 (single-flight)
+ * 온보딩 시간처럼 같은 질문이 같은 순간에 몰리면, 먼저 온 요청(leader)만 Flask를 호출하고
+ * 그 사이 도착한 같은 질문(follower)은 진행 중인 호출의 결과(또는 오류)를 함께 받습니다.
+ *
+ * - 키: 정규화한 질문(ChatbotAnswerCache와 같은 규칙) + 나머지 요청 필드 (사용자 정보는 요청 본문에 없으므로 사용자와 무관)
+ * - 호출이 끝나면 결과를 넘기기 전에 키를 제거하므로, 이후 요청은 답변 캐시를 보거나 새로 호출합니다.
+ * - 호출자마다 별도 future를 받으므로 한 요청이 끊겨도(취소) 다른 대기자에게 영향이 없습니다.
+ * - 지표: chatbot.coalesce.requests{role=leader|follower} (병합 비율 = follower / 전체), chatbot.coalesce.in_flight
+ */
+@Component
+public class ChatbotRequestCoalescer {
+
+    private static final String MESSAGE_FIELD = "message";
+
+    private final ConcurrentHashMap<String, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public ChatbotRequestCoalescer(MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("chatbot.coalesce.requests")
+                .tag("role", "leader")
+                .description("Flask를 직접 호출한 챗봇 요청 수")
+                .register(meterRegistry);
+        this.followers = Counter.builder("chatbot.coalesce.requests")
+                .tag("role", "follower")
+                .description("진행 중인 같은 질문의 호출 결과를 함께 받은 챗봇 요청 수")
+                .register(meterRegistry);
+
+        Gauge.builder("chatbot.coalesce.in_flight", inFlight, Map::size)
+                .description("진행 중인 서로 다른 챗봇 질문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 병합 키 (질문이 없으면 null → 병합하지 않음)
+     */
+    public String key(Map<String, String> request) {
+        String question = request.get(MESSAGE_FIELD);
+        String normalized = question == null ? "" : ChatbotAnswerCache.normalize(question);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (request.size() == 1) {
+            return normalized;
+        }
+        Map<String, String> context = new TreeMap<>(request); // 필드 순서 무관
+        context.remove(MESSAGE_FIELD);
+        return normalized + '\u0000' + context;
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를, 없으면 call을 실행한 결과를 반환 (key가 null이면 그대로 실행)
+     */
+    public CompletableFuture<Map<String, Object>> ask(String key, Supplier<CompletableFuture<Map<String, Object>>> call) {
+        if (key == null) {
+            leaders.increment();
+            return call.get();
+        }
+
+        CompletableFuture<Map<String, Object>> pending = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            followers.increment();
+            return existing.copy();
+        }
+
+        leaders.increment();
+        CompletableFuture<Map<String, Object>> upstream;
+        try {
+            upstream = call.get();
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((answer, error) -> {
+            inFlight.remove(key, pending); // 결과 전달 전에 제거 (완료된 호출에 새 요청이 붙지 않도록)
+            if (error != null) {
+                pending.completeExceptionally(error);
+            } else {
+                pending.complete(answer);
+            }
+        });
+        return pending.copy();
+    }
+
+    public Map<String, Object> stats() {
+        long leaderCount = (long) leaders.count();
+        long followerCount = (long) followers.count();
+        long total = leaderCount + followerCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("leaders", leaderCount);
+        stats.put("followers", followerCount);
+        stats.put("coalescingRatio", total == 0 ? 0.0 : (double) followerCount / total);
+        return stats;
+    }
+}
@@ -0,0 +1,159 @@
+package min.boot.ats.component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 호출용 서킷 브레이커 (최근 N건 실패율 기준)
+ *
+ * - CLOSED: 모든 호출 허용, 최근 windowSize건 중 minCalls건 이상 기록되었고 실패율이 임계치 이상이면 OPEN
+ * - OPEN: openDuration 동안 호출 없이 즉시 실패 (외부 서버 장애가 요청 지연으로 번지지 않도록)
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN
+ *
+ * 잠금 구간이 짧고 그 안에서 대기하지 않지만, 가상 스레드 고정(pinning)을 피하도록 synchronized 대신 ReentrantLock을 사용합니다.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failures; // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private int next;
+    private int recorded;
+    private int failureCount;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, Duration openDuration) {
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.failures = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure/onIgnored 중 하나로 반드시 알려야 함)
+     */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            return switch (state) {
+                case CLOSED -> true;
+                case HALF_OPEN -> {
+                    if (trialInFlight) {
+                        yield false;
+                    }
+                    trialInFlight = true;
+                    yield true;
+                }
+                case OPEN -> false;
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+                reset();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recorded >= minCalls && failureCount >= failureRateThreshold * recorded) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 성공/실패로 판단할 수 없는 종료 (호출 취소 등) - 시험 호출 자리만 반납
+     */
+    void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * 최근 호출 실패율 (0.0 ~ 1.0, 기록이 없으면 0)
+     */
+    double failureRate() {
+        lock.lock();
+        try {
+            return recorded == 0 ? 0.0 : (double) failureCount / recorded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        reset();
+    }
+
+    private void reset() {
+        Arrays.fill(failures, false);
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,187 @@
+package min.boot.ats.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공고 검색용 역색인 자료구조 (스레드 안전하지 않음 - 동기화는 JobSearchIndex가 담당)
+ * 토큰별 posting(문서 순번, 가중 빈도)을 원시 배열로 보관하여 힙 사용량을 줄입니다.
+ * 삭제는 tombstone 표시만 하고, 삭제된 문서가 많아지면 compactIfNeeded()에서 한 번에 정리합니다.
+ */
+class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 3;      // 제목 일치는 본문 일치보다 높은 점수
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] jobIds = new long[1024];          // 문서 순번 → 공고 ID
+    private int nextOrdinal;
+
+    /**
+     * 문서 추가 (이미 있으면 기존 문서를 삭제 처리 후 새 순번으로 추가)
+     */
+    void put(long jobId, String title, String content) {
+        remove(jobId);
+
+        int ordinal = nextOrdinal++;
+        if (ordinal == jobIds.length) {
+            jobIds = Arrays.copyOf(jobIds, jobIds.length * 2);
+        }
+        jobIds[ordinal] = jobId;
+        ordinalByJobId.put(jobId, ordinal);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        NgramTokenizer.bigrams(title).forEach(t -> frequencies.merge(t, TITLE_WEIGHT, Integer::sum));
+        NgramTokenizer.unigrams(title).forEach(t -> frequencies.merge(t, TITLE_WEIGHT, Integer::sum));
+        NgramTokenizer.bigrams(content).forEach(t -> frequencies.merge(t, 1, Integer::sum));
+
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, k -> new Postings()).add(ordinal, frequency));
+    }
+
+    void remove(long jobId) {
+        Integer ordinal = ordinalByJobId.remove(jobId);
+        if (ordinal != null) {
+            deleted.set(ordinal);
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 문서를 TF-IDF 점수 순으로 반환합니다.
+     * (동점이면 최근 등록 공고 우선)
+     */
+    List<Long> search(String query, int limit) {
+        List<String> terms = NgramTokenizer.bigrams(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return List.of(); // 한 토큰이라도 없으면 일치 문서 없음
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 posting을 기준으로 나머지를 이진 탐색하여 교집합 계산
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int documentCount = Math.max(1, ordinalByJobId.size());
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            idf[i] = Math.log(1.0 + (double) documentCount / lists.get(i).size);
+        }
+
+        List<ScoredDoc> hits = new ArrayList<>();
+        Postings shortest = lists.get(0);
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int ordinal = shortest.docs[i];
+            if (deleted.get(ordinal)) {
+                continue;
+            }
+            double score = shortest.frequencies[i] * idf[0];
+            for (int j = 1; j < lists.size(); j++) {
+                int frequency = lists.get(j).frequencyOf(ordinal);
+                if (frequency == 0) {
+                    continue candidates;
+                }
+                score += frequency * idf[j];
+            }
+            hits.add(new ScoredDoc(jobIds[ordinal], score));
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(ScoredDoc::score).reversed()
+                        .thenComparing(Comparator.comparingLong(ScoredDoc::jobId).reversed()))
+                .limit(limit)
+                .map(ScoredDoc::jobId)
+                .toList();
+    }
+
+    /**
+     * 삭제 표시된 문서가 전체의 절반을 넘으면 posting에서 제거하고 순번을 다시 매깁니다.
+     */
+    void compactIfNeeded() {
+        int deletedCount = deleted.cardinality();
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount * 2 < nextOrdinal) {
+            return;
+        }
+
+        int[] remap = new int[nextOrdinal];
+        long[] compactedIds = new long[Math.max(1024, nextOrdinal - deletedCount)];
+        int next = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = next;
+                compactedIds[next++] = jobIds[ordinal];
+            }
+        }
+
+        postings.values().removeIf(list -> list.remap(remap) == 0);
+        ordinalByJobId.replaceAll((jobId, ordinal) -> remap[ordinal]);
+        jobIds = compactedIds;
+        nextOrdinal = next;
+        deleted.clear();
+    }
+
+    int documentCount() {
+        return ordinalByJobId.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    private record ScoredDoc(long jobId, double score) {
+    }
+
+    /**
+     * 토큰 하나의 posting 목록 (문서 순번 오름차순 유지 → 이진 탐색 가능)
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int frequencyOf(int ordinal) {
+            int idx = Arrays.binarySearch(docs, 0, size, ordinal);
+            return idx >= 0 ? frequencies[idx] : 0;
+        }
+
+        // 삭제 문서 제거 후 남은 개수 반환 (순번은 단조 증가로 재매핑되므로 정렬 유지)
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[docs[i]];
+                if (ordinal >= 0) {
+                    docs[next] = ordinal;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package min.boot.ats.component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import min.boot.ats.dto.JobResponseDto;
+import min.boot.ats.event.CategoryChangedEvent;
+import min.boot.ats.event.CompanyChangedEvent;
+import min.boot.ats.event.JobChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공고 상세(JobResponseDto) Read-through 캐시
+ * 인기 공고는 같은 상세 조회가 반복되므로, 조회 결과 DTO를 크기(대략적인 바이트)와 TTL 한도 내에서 보관합니다.
+ *
+ * - 같은 공고의 동시 미스는 한 번만 로드합니다. (캐시 스탬피드 방지, 로드는 캐시 잠금 밖에서 실행 - CacheLoadSupport)
+ * - 수정/순서 변경/상태 변경/삭제/자동 마감(JobChangedEvent) 커밋 후 해당 공고만 무효화합니다.
+ * - 기업명 변경(CompanyChangedEvent) 커밋 후 해당 기업의 공고를 무효화합니다.
+ * - 카테고리 변경(CategoryChangedEvent) 커밋 후 전체를 무효화합니다. (드물게 일어나고, 캐시된 상세에 카테고리 ID가 없음)
+ */
+@Component
+public class JobDetailCache {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+    private static final int BASE_WEIGHT_BYTES = 1024; // 본문 외 필드/단계/문항 대략치
+
+    private final AsyncCache<Long, JobResponseDto> cache;
+
+    public JobDetailCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAX_WEIGHT_BYTES)
+                .weigher((Long jobId, JobResponseDto dto) -> weigh(dto))
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobDetail");
+    }
+
+    public JobResponseDto get(Long jobId, Function<Long, JobResponseDto> loader) {
+        return CacheLoadSupport.get(cache, jobId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        cache.synchronous().invalidateAll(event.getJobIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        cache.synchronous().asMap().values().removeIf(dto -> event.getCompanyId().equals(dto.getCompanyId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    public void invalidate(Long jobId) {
+        cache.synchronous().invalidate(jobId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = CacheStatsSupport.toMap(cache.synchronous());
+        cache.synchronous().policy().eviction().ifPresent(eviction -> {
+            stats.put("weightBytes", eviction.weightedSize().orElse(0L));
+            stats.put("maxWeightBytes", eviction.getMaximum());
+        });
+        return stats;
+    }
+
+    // 문자열은 UTF-16 기준 문자당 2바이트로 계산
+    private static int weigh(JobResponseDto dto) {
+        int contentLength = dto.getContent() != null ? dto.getContent().length() : 0;
+        int itemCount = dto.getSteps().size() + dto.getQuestions().size();
+        return BASE_WEIGHT_BYTES + contentLength * 2 + itemCount * 256;
+    }
+}
@@ -0,0 +1,310 @@
+package min.boot.ats.component;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.domain.QJob;
+import min.boot.ats.event.JobChangedEvent;
+import min.boot.ats.event.LeadershipAcquiredEvent;
+import min.boot.ats.service.JobService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공고 마감 타이머
+ * 공개(OPEN) 공고의 마감 시각을 메모리 우선순위 큐(마감 시각 순)에 두고,
+ * 가장 빠른 마감 시각에 한 번만 깨어나 마감된 공고를 소량 배치로 CLOSED 처리합니다.
+ * 마감 대상이 없으면 DB 작업이 전혀 없고, 마감 후 지연은 스케줄러 정밀도(ms) 수준입니다.
+ *
+ * - 시작 시(ApplicationReadyEvent) DB에서 마감 시각을 적재하고, 이후 JobChangedEvent(커밋 이후)로 갱신합니다.
+ * - 누락 대비 보정은 JobScheduler의 주기적 청크 마감(closeExpiredJobsChunk)이 담당합니다.
+ * - 여러 노드 중 스케줄러 리더(SchedulerLeaderLock)만 실제 마감 UPDATE를 실행합니다.
+ *   리더가 아닌 노드는 마감 항목을 버리고, 리더가 되는 시점(LeadershipAcquiredEvent)에 전체를 다시 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobExpiryTimer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int CLOSE_BATCH_SIZE = 100;
+    private static final int COMPACT_MIN_STALE = 1024;
+
+    private final JPAQueryFactory queryFactory;
+    private final JobService jobService;
+    private final TaskScheduler taskScheduler;
+    private final SchedulerLeaderLock leaderLock;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock loadLock = new ReentrantLock(); // 시작 시 적재와 리더 획득 시 재적재 직렬화
+    private final AtomicLong closedTotal = new AtomicLong();
+
+    // 아래 필드는 모두 lock으로 보호
+    // 마감 시각 변경/삭제 시 큐에서 바로 빼지 않고 deadlineByJobId와 다른 항목을 꺼낼 때 버립니다.
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(
+            Comparator.comparing(Deadline::deadline).thenComparing(Deadline::jobId));
+    private final Map<Long, LocalDateTime> deadlineByJobId = new HashMap<>();
+    private Set<Long> pendingDuringLoad;   // 적재 중 변경된 공고 ID
+    private boolean loaded;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        load();
+    }
+
+    @EventListener(LeadershipAcquiredEvent.class)
+    public void reloadOnLeadership() {
+        load();
+    }
+
+    private void load() {
+        loadLock.lock();
+        try {
+            doLoad();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void doLoad() {
+        long started = System.currentTimeMillis();
+        lock.lock();
+        try {
+            pendingDuringLoad = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        Map<Long, LocalDateTime> deadlines = new HashMap<>();
+        QJob job = QJob.job;
+        Long lastId = null;
+        while (true) {
+            List<Tuple> rows = queryFactory
+                    .select(job.id, job.deadline)
+                    .from(job)
+                    .where(job.status.eq(JobStatus.OPEN),
+                            job.deadline.isNotNull(),
+                            lastId != null ? job.id.gt(lastId) : null)
+                    .orderBy(job.id.asc())
+                    .limit(LOAD_BATCH_SIZE)
+                    .fetch();
+            rows.forEach(row -> deadlines.put(row.get(job.id), row.get(job.deadline)));
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).get(job.id);
+        }
+
+        lock.lock();
+        try {
+            queue.clear();
+            deadlineByJobId.clear();
+            deadlines.forEach(this::put);
+            Set<Long> pending = pendingDuringLoad;
+            pendingDuringLoad = null;
+            reload(pending);
+            loaded = true;
+            reschedule();
+            log.info("공고 마감 타이머 적재 완료: {} ({}ms)", stats(), System.currentTimeMillis() - started);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 공고 변경 반영 (트랜잭션 커밋 이후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.REORDERED) {
+            return; // 마감 시각 변경 없음
+        }
+        lock.lock();
+        try {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.addAll(event.getJobIds());
+            }
+            if (!loaded) {
+                return;
+            }
+
+            boolean removeOnly = event.getType() == JobChangedEvent.Type.DELETED
+                    || (event.getType() == JobChangedEvent.Type.STATUS_CHANGED && event.getStatus() != JobStatus.OPEN);
+            if (removeOnly) {
+                event.getJobIds().forEach(deadlineByJobId::remove);
+            } else {
+                reload(event.getJobIds());
+            }
+            compactIfNeeded();
+            reschedule();
+        } catch (RuntimeException e) {
+            // 반영 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남김 (주기적 일괄 마감으로 보정)
+            log.error("공고 마감 타이머 반영 실패: {} {}", event.getType(), event.getJobIds(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.lock();
+        try {
+            Deadline next = peekValid();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("loaded", loaded);
+            stats.put("leader", leaderLock.isLeader());
+            stats.put("scheduledJobs", deadlineByJobId.size());
+            stats.put("queueEntries", queue.size());
+            stats.put("nextDeadline", next != null ? next.deadline() : null);
+            stats.put("closedTotal", closedTotal.get());
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마감 시각 도달 시 실행: 마감된 공고를 최대 CLOSE_BATCH_SIZE건씩 처리
+    private void fire() {
+        List<Long> due;
+        lock.lock();
+        try {
+            wakeUp = null;
+            wakeUpAt = null;
+            due = pollDue(LocalDateTime.now(), CLOSE_BATCH_SIZE);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!due.isEmpty() && leaderLock.isLeader()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                int closed = jobService.closeExpiredJobs(due);
+                closedTotal.addAndGet(closed);
+                meterRegistry.counter("jobs.expiry.closed", "trigger", "timer").increment(closed);
+                meterRegistry.summary("jobs.expiry.run.rows", "trigger", "timer").record(closed);
+            } catch (RuntimeException e) {
+                // 큐에서는 이미 제거됨 → 주기적 청크 마감에서 처리
+                log.error("공고 마감 처리 실패: {}", due, e);
+            } finally {
+                sample.stop(meterRegistry.timer("jobs.expiry.run", "trigger", "timer"));
+            }
+        }
+
+        lock.lock();
+        try {
+            reschedule(); // 남은 마감 대상이 있으면 즉시, 없으면 다음 마감 시각에 실행
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Long> pollDue(LocalDateTime now, int limit) {
+        List<Long> due = new ArrayList<>();
+        while (due.size() < limit) {
+            Deadline head = peekValid();
+            if (head == null || !head.deadline().isBefore(now)) {
+                break;
+            }
+            queue.poll();
+            deadlineByJobId.remove(head.jobId());
+            due.add(head.jobId());
+        }
+        return due;
+    }
+
+    // 가장 빠른 마감 시각에 깨어나도록 예약 (이미 더 이른 예약이 있으면 유지)
+    private void reschedule() {
+        Deadline head = peekValid();
+        if (head == null) {
+            cancelWakeUp();
+            return;
+        }
+        if (wakeUp != null && !head.deadline().isBefore(wakeUpAt)) {
+            return;
+        }
+        cancelWakeUp();
+        wakeUpAt = head.deadline();
+        // 마감 조건이 deadline < now 이므로 마감 시각 직후에 실행
+        wakeUp = taskScheduler.schedule(this::fire,
+                head.deadline().atZone(ZoneId.systemDefault()).toInstant().plusMillis(1));
+    }
+
+    private void cancelWakeUp() {
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+            wakeUpAt = null;
+        }
+    }
+
+    // 큐 맨 앞의 유효 항목 (변경/삭제로 무효가 된 항목은 버림)
+    private Deadline peekValid() {
+        while (!queue.isEmpty()) {
+            Deadline head = queue.peek();
+            if (head.deadline().equals(deadlineByJobId.get(head.jobId()))) {
+                return head;
+            }
+            queue.poll();
+        }
+        return null;
+    }
+
+    // DB에서 현재 마감 시각을 다시 읽어 반영 (OPEN이 아니거나 마감 시각이 없는 공고는 제외)
+    private void reload(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        QJob job = QJob.job;
+        List<Tuple> rows = queryFactory
+                .select(job.id, job.deadline)
+                .from(job)
+                .where(job.id.in(jobIds), job.status.eq(JobStatus.OPEN), job.deadline.isNotNull())
+                .fetch();
+        jobIds.forEach(deadlineByJobId::remove);
+        rows.forEach(row -> put(row.get(job.id), row.get(job.deadline)));
+    }
+
+    private void put(Long jobId, LocalDateTime deadline) {
+        if (!deadline.equals(deadlineByJobId.put(jobId, deadline))) {
+            queue.add(new Deadline(deadline, jobId));
+        }
+    }
+
+    // 무효 항목이 유효 항목보다 많아지면 큐를 다시 만듦
+    private void compactIfNeeded() {
+        int stale = queue.size() - deadlineByJobId.size();
+        if (stale < COMPACT_MIN_STALE || stale < deadlineByJobId.size()) {
+            return;
+        }
+        queue.clear();
+        deadlineByJobId.forEach((jobId, deadline) -> queue.add(new Deadline(deadline, jobId)));
+    }
+
+    private record Deadline(LocalDateTime deadline, Long jobId) {
+    }
+}
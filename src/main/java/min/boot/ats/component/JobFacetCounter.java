@@ -0,0 +1,266 @@
+package min.boot.ats.component;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.domain.QJob;
+import min.boot.ats.dto.JobFacetResponseDto;
+import min.boot.ats.event.CategoryChangedEvent;
+import min.boot.ats.event.JobChangedEvent;
+import min.boot.ats.repo.JobCategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개(OPEN) 공고 필터 사이드바용 facet 건수 (카테고리별 / 고용형태별)
+ * 요청마다 GROUP BY 하지 않도록 (카테고리 x 고용형태) 건수 표를 메모리에 유지하고,
+ * 공고 변경(JobChangedEvent, 자동 마감 포함) 시 해당 공고만 증감합니다.
+ * 카테고리 건수는 부모 카테고리로 합산(roll-up)하여 반환합니다.
+ * 변경 반영(DB 재조회 + 적용)은 updateLock으로 직렬화하여, 먼저 읽은 이전 상태가 나중에 적용되지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobFacetCounter {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_DEPTH = 32; // 잘못된 순환 참조 방어
+
+    private final JPAQueryFactory queryFactory;
+    private final JobCategoryRepository categoryRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 집계(read) / 반영(write)
+    private final ReentrantLock updateLock = new ReentrantLock();             // 변경 반영 작업 직렬화
+
+    // 아래 필드는 모두 lock으로 보호
+    private final Map<Long, FacetKey> openJobs = new HashMap<>();                 // 공고 ID → (카테고리, 고용형태)
+    private final Map<Long, Map<String, Integer>> counts = new HashMap<>();       // 카테고리 → 고용형태 → 건수
+    private Map<Long, Long> parentByCategoryId = new HashMap<>();                 // 카테고리 → 부모 카테고리
+    private boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * 현재 필터 기준 facet 건수
+     * - 카테고리 facet: 검색어 + 고용형태 조건 적용 (카테고리 조건은 제외)
+     * - 고용형태 facet: 검색어 + 카테고리(하위 카테고리 포함) 조건 적용 (고용형태 조건은 제외)
+     *
+     * @param candidateIds 검색어 일치 공고 ID (검색어가 없으면 null)
+     */
+    public JobFacetResponseDto count(Collection<Long> candidateIds, Long categoryId, String employmentType) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> byCategory = new HashMap<>();
+            Map<String, Long> byType = new TreeMap<>();
+            long total = 0;
+
+            if (candidateIds == null) {
+                for (Map.Entry<Long, Map<String, Integer>> row : counts.entrySet()) {
+                    for (Map.Entry<String, Integer> cell : row.getValue().entrySet()) {
+                        total += tally(row.getKey(), cell.getKey(), cell.getValue(),
+                                categoryId, employmentType, byCategory, byType);
+                    }
+                }
+            } else {
+                for (Long jobId : candidateIds) {
+                    FacetKey key = openJobs.get(jobId);
+                    if (key != null) {
+                        total += tally(key.categoryId(), key.employmentType(), 1,
+                                categoryId, employmentType, byCategory, byType);
+                    }
+                }
+            }
+
+            return new JobFacetResponseDto(total, rollUp(byCategory), byType);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 칸(카테고리, 고용형태, 건수)을 각 facet에 반영하고, 전체 조건에 맞으면 건수를 반환
+    private long tally(Long cellCategoryId, String cellType, int count, Long categoryId, String employmentType,
+                       Map<Long, Long> byCategory, Map<String, Long> byType) {
+        boolean categoryMatches = categoryId == null || isWithin(cellCategoryId, categoryId);
+        boolean typeMatches = employmentType == null || employmentType.equals(cellType);
+
+        if (typeMatches && cellCategoryId != null) {
+            byCategory.merge(cellCategoryId, (long) count, Long::sum);
+        }
+        if (categoryMatches && cellType != null) {
+            byType.merge(cellType, (long) count, Long::sum);
+        }
+        return categoryMatches && typeMatches ? count : 0;
+    }
+
+    // 카테고리가 기준 카테고리 자신이거나 그 하위 카테고리인지 (부모 방향으로 따라 올라가며 확인)
+    private boolean isWithin(Long cellCategoryId, Long categoryId) {
+        Long current = cellCategoryId;
+        for (int depth = 0; current != null && depth < MAX_DEPTH; depth++) {
+            if (current.equals(categoryId)) {
+                return true;
+            }
+            current = parentByCategoryId.get(current);
+        }
+        return false;
+    }
+
+    // 직접 건수를 부모 카테고리로 합산 (건수가 없는 카테고리도 0으로 포함)
+    private Map<Long, Long> rollUp(Map<Long, Long> direct) {
+        Map<Long, Long> rolled = new LinkedHashMap<>();
+        parentByCategoryId.keySet().stream().sorted().forEach(id -> rolled.put(id, 0L));
+
+        direct.forEach((categoryId, count) -> {
+            Long current = categoryId;
+            for (int depth = 0; current != null && depth < MAX_DEPTH; depth++) {
+                rolled.merge(current, count, Long::sum);
+                current = parentByCategoryId.get(current);
+            }
+        });
+        return rolled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.REORDERED) {
+            return;
+        }
+
+        boolean removeOnly = event.getType() == JobChangedEvent.Type.DELETED
+                || (event.getType() == JobChangedEvent.Type.STATUS_CHANGED && event.getStatus() != JobStatus.OPEN);
+
+        // 조회는 쓰기 잠금 밖(집계 요청을 막지 않음), 조회~반영은 updateLock 안에서 실행
+        updateLock.lock();
+        try {
+            List<Tuple> openRows = removeOnly ? List.of() : findOpenRows(event.getJobIds());
+
+            QJob job = QJob.job;
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    return; // 최초 적재 시 DB에서 최신 상태를 읽으므로 무시
+                }
+                event.getJobIds().forEach(this::remove);
+                openRows.forEach(row -> add(row.get(job.id), row.get(job.category.id), row.get(job.employmentType)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        updateLock.lock();
+        try {
+            Map<Long, Long> parents = loadParents();
+            lock.writeLock().lock();
+            try {
+                parentByCategoryId = parents;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long started = System.currentTimeMillis();
+            parentByCategoryId = loadParents();
+
+            QJob job = QJob.job;
+            Long lastId = null;
+            while (true) {
+                List<Tuple> rows = queryFactory
+                        .select(job.id, job.category.id, job.employmentType)
+                        .from(job)
+                        .where(job.status.eq(JobStatus.OPEN),
+                                lastId != null ? job.id.gt(lastId) : null)
+                        .orderBy(job.id.asc())
+                        .limit(BATCH_SIZE)
+                        .fetch();
+                rows.forEach(row -> add(row.get(job.id), row.get(job.category.id), row.get(job.employmentType)));
+                if (rows.size() < BATCH_SIZE) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(job.id);
+            }
+            loaded = true;
+            log.info("공고 facet 건수 적재 완료: 공개 공고 {}건 ({}ms)", openJobs.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Tuple> findOpenRows(Collection<Long> jobIds) {
+        QJob job = QJob.job;
+        return queryFactory
+                .select(job.id, job.category.id, job.employmentType)
+                .from(job)
+                .where(job.id.in(jobIds), job.status.eq(JobStatus.OPEN))
+                .fetch();
+    }
+
+    private Map<Long, Long> loadParents() {
+        Map<Long, Long> parents = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllIdAndParentId()) {
+            parents.put((Long) row[0], (Long) row[1]);
+        }
+        return parents;
+    }
+
+    private void add(Long jobId, Long categoryId, String employmentType) {
+        openJobs.put(jobId, new FacetKey(categoryId, employmentType));
+        counts.computeIfAbsent(categoryId, k -> new HashMap<>()).merge(employmentType, 1, Integer::sum);
+    }
+
+    private void remove(Long jobId) {
+        FacetKey key = openJobs.remove(jobId);
+        if (key == null) {
+            return;
+        }
+        Map<String, Integer> row = counts.get(key.categoryId());
+        if (row != null) {
+            row.computeIfPresent(key.employmentType(), (type, count) -> count > 1 ? count - 1 : null);
+            if (row.isEmpty()) {
+                counts.remove(key.categoryId());
+            }
+        }
+    }
+
+    private record FacetKey(Long categoryId, String employmentType) {
+    }
+}
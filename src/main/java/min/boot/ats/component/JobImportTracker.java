@@ -0,0 +1,147 @@
+package min.boot.ats.component;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공고 일괄 등록(import) 진행 상황 보관소
+ * 가져오기는 요청 스레드에서 본문을 스트리밍하며 진행되므로, 다른 요청에서 진행률/행 오류를 조회할 수 있도록 메모리에 보관합니다.
+ *
+ * - 진행 중인 작업은 모두 보관하고, 끝난 작업은 최근 MAX_FINISHED건만 남깁니다.
+ * - 행 오류는 건수는 모두 세되, 내용은 작업당 MAX_ERRORS건까지만 보관합니다.
+ */
+@Component
+public class JobImportTracker {
+
+    private static final int MAX_FINISHED = 20;
+    private static final int MAX_ERRORS = 1000;
+
+    private final Map<String, Progress> imports = new LinkedHashMap<>(); // 시작 순서 유지 (this로 동기화)
+
+    public synchronized Progress start(String format, Long userId) {
+        Progress progress = new Progress(UUID.randomUUID().toString(), format, userId);
+        imports.put(progress.getId(), progress);
+        evictFinished();
+        return progress;
+    }
+
+    public synchronized Progress get(String importId) {
+        return imports.get(importId);
+    }
+
+    public synchronized List<Map<String, Object>> list() {
+        List<Map<String, Object>> result = new ArrayList<>(imports.size());
+        imports.values().forEach(progress -> result.add(progress.toMap(false)));
+        return result;
+    }
+
+    private void evictFinished() {
+        long finished = imports.values().stream().filter(Progress::isFinished).count();
+        Iterator<Progress> it = imports.values().iterator();
+        while (finished > MAX_FINISHED && it.hasNext()) {
+            if (it.next().isFinished()) {
+                it.remove();
+                finished--;
+            }
+        }
+    }
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 가져오기 작업 1건의 진행 상황 (가져오기 스레드가 갱신하고 조회 요청이 읽음)
+     */
+    public static class Progress {
+
+        private final String id;
+        private final String format;
+        private final Long userId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<Map<String, Object>> errors = new ArrayList<>(); // errors로 동기화
+
+        private volatile State state = State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String failure;
+
+        private Progress(String id, String format, Long userId) {
+            this.id = id;
+            this.format = format;
+            this.userId = userId;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public boolean isFinished() {
+            return state != State.RUNNING;
+        }
+
+        public void rowRead() {
+            rowsRead.incrementAndGet();
+        }
+
+        public void imported(int count) {
+            imported.addAndGet(count);
+        }
+
+        public void rowFailed(long line, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_ERRORS) {
+                    Map<String, Object> error = new LinkedHashMap<>();
+                    error.put("line", line);
+                    error.put("message", message);
+                    errors.add(error);
+                }
+            }
+        }
+
+        public void complete() {
+            finishedAt = LocalDateTime.now();
+            state = State.COMPLETED;
+        }
+
+        public void fail(String message) {
+            failure = message;
+            finishedAt = LocalDateTime.now();
+            state = State.FAILED;
+        }
+
+        public Map<String, Object> toMap(boolean includeErrors) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("importId", id);
+            map.put("format", format);
+            map.put("userId", userId);
+            map.put("state", state);
+            map.put("startedAt", startedAt);
+            map.put("finishedAt", finishedAt);
+            map.put("rowsRead", rowsRead.get());
+            map.put("imported", imported.get());
+            map.put("failed", failed.get());
+            if (failure != null) {
+                map.put("failure", failure);
+            }
+            if (includeErrors) {
+                synchronized (errors) {
+                    map.put("errors", List.copyOf(errors));
+                }
+            }
+            return map;
+        }
+    }
+}
@@ -1,17 +1,49 @@
 package min.boot.ats.component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import min.boot.ats.service.JobService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JobScheduler {
+
+    private static final int CHUNK_SIZE = 500; // 트랜잭션 1회당 마감 처리 건수 (행 잠금 시간 제한)
+
     private final JobService jobService;
+    private final SchedulerLeaderLock leaderLock;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(cron = "0 * * * * *") // 매 분 정각에 실행
+    // 마감 시각별 처리는 JobExpiryTimer가 담당하고, 여기서는 누락분만 보정 (10분마다 전체 검사, 리더 노드만)
+    @Scheduled(cron = "0 */10 * * * *")
     public void autoCloseExpiredJobs() {
-        jobService.closeExpiredJobs();
+        if (!leaderLock.isLeader()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        int chunks = 0;
+        int closed;
+        do {
+            closed = jobService.closeExpiredJobsChunk(now, CHUNK_SIZE);
+            total += closed;
+            chunks++;
+        } while (closed == CHUNK_SIZE && leaderLock.isLeader()); // 리더를 잃으면 중단 (다음 리더가 이어서 처리)
+
+        sample.stop(meterRegistry.timer("jobs.expiry.run", "trigger", "sweep"));
+        meterRegistry.counter("jobs.expiry.closed", "trigger", "sweep").increment(total);
+        meterRegistry.summary("jobs.expiry.run.rows", "trigger", "sweep").record(total);
+        if (total > 0) {
+            log.info("마감 공고 보정 처리: {}건 ({}개 청크)", total, chunks);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package min.boot.ats.component;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.domain.QJob;
+import min.boot.ats.event.JobChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개(OPEN) 공고 제목/본문 전문 검색 색인
+ * LIKE '%검색어%' 는 인덱스를 타지 못해 jobs 전체를 스캔하므로,
+ * 메모리 역색인(bigram)으로 후보 공고 ID를 관련도 순으로 찾아 QueryDSL 조건에 넘깁니다.
+ *
+ * - 시작 시(ApplicationReadyEvent) DB에서 전체 재구축, 관리자 API로 수동 재구축 가능
+ * - 이후에는 JobChangedEvent(커밋 이후)로 변경분만 반영
+ * - 재구축이 끝나기 전(isReady() == false)에는 기존 LIKE 검색으로 대체됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JPAQueryFactory queryFactory;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 검색(read) / 반영(write)
+    private final ReentrantLock updateLock = new ReentrantLock();             // 변경 반영 작업 직렬화
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private InvertedIndex index = new InvertedIndex(); // lock으로 보호
+    private Set<Long> pendingDuringRebuild;            // 재구축 중 변경된 공고 ID (updateLock으로 보호)
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어와 일치하는 공개 공고 ID 목록 (관련도 내림차순, 최대 limit건)
+     */
+    public List<Long> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 공개 공고 ID 전체 (관련도 내림차순)
+     * 카테고리/고용형태 등 다른 조건은 이 목록 전체와 교집합을 구한 뒤 자릅니다.
+     * (상위 N건만 받아 거르면 조건에 맞는 공고가 누락되고 건수가 틀어짐)
+     */
+    public List<Long> searchAll(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * [색인 전체 재구축]
+     * 새 색인을 별도로 만든 뒤 교체하므로 재구축 중에도 기존 색인으로 검색이 가능합니다.
+     * 재구축 도중 변경된 공고는 교체 직후 다시 반영합니다.
+     */
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("검색 색인 재구축이 이미 진행 중입니다.");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            updateLock.lock();
+            try {
+                pendingDuringRebuild = new HashSet<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            InvertedIndex fresh = new InvertedIndex();
+            QJob job = QJob.job;
+            Long lastId = null;
+            while (true) {
+                List<Tuple> rows = queryFactory
+                        .select(job.id, job.title, job.content)
+                        .from(job)
+                        .where(job.status.eq(JobStatus.OPEN),
+                                lastId != null ? job.id.gt(lastId) : null)
+                        .orderBy(job.id.asc())
+                        .limit(BATCH_SIZE)
+                        .fetch();
+                rows.forEach(row -> fresh.put(row.get(job.id), row.get(job.title), row.get(job.content)));
+                if (rows.size() < BATCH_SIZE) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(job.id);
+            }
+
+            updateLock.lock();
+            try {
+                lock.writeLock().lock();
+                try {
+                    index = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                Set<Long> pending = pendingDuringRebuild;
+                pendingDuringRebuild = null;
+                reload(pending);
+            } finally {
+                updateLock.unlock();
+            }
+
+            ready = true;
+            Map<String, Object> stats = stats();
+            log.info("검색 색인 재구축 완료: {} ({}ms)", stats, System.currentTimeMillis() - started);
+            return stats;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("documents", index.documentCount());
+            stats.put("terms", index.termCount());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 공고 변경 반영 (트랜잭션 커밋 이후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.REORDERED) {
+            return; // 제목/본문 변경 없음
+        }
+        updateLock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(event.getJobIds());
+            }
+
+            boolean removeOnly = event.getType() == JobChangedEvent.Type.DELETED
+                    || (event.getType() == JobChangedEvent.Type.STATUS_CHANGED && event.getStatus() != JobStatus.OPEN);
+            if (removeOnly) {
+                apply(event.getJobIds(), List.of());
+            } else {
+                reload(event.getJobIds());
+            }
+        } catch (RuntimeException e) {
+            // 색인 반영 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남김 (재구축으로 복구)
+            log.error("검색 색인 반영 실패: {} {}", event.getType(), event.getJobIds(), e);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    // DB에서 현재 상태를 다시 읽어 반영 (OPEN이 아니거나 삭제된 공고는 색인에서 제거)
+    private void reload(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        QJob job = QJob.job;
+        List<Tuple> rows = queryFactory
+                .select(job.id, job.title, job.content)
+                .from(job)
+                .where(job.id.in(jobIds), job.status.eq(JobStatus.OPEN))
+                .fetch();
+        apply(jobIds, rows);
+    }
+
+    private void apply(Collection<Long> jobIds, List<Tuple> openRows) {
+        QJob job = QJob.job;
+        lock.writeLock().lock();
+        try {
+            jobIds.forEach(index::remove);
+            openRows.forEach(row -> index.put(row.get(job.id), row.get(job.title), row.get(job.content)));
+            index.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package min.boot.ats.component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 음절 단위 2-gram(bigram)으로 자릅니다.
+ * (예: "백엔드개발" → 백엔, 엔드, 드개, 개발)
+ * 영문/숫자도 같은 규칙을 적용하며, 문자·숫자가 아닌 글자는 구분자로 취급합니다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * bigram 목록 (한 글자 단어는 그대로 unigram으로 반환)
+     */
+    public static List<String> bigrams(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * unigram 목록 (한 글자 검색어 지원용)
+     */
+    public static List<String> unigrams(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+            }
+        }
+        return tokens;
+    }
+
+    // 전각/반각, 대소문자를 통일한 뒤 문자·숫자 연속 구간만 잘라냅니다.
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,314 @@
+package min.boot.ats.component;
+
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.JobSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 공개(OPEN) 공고 목록 필드의 불변 컬럼형 스냅샷
+ * 행 객체 대신 컬럼별 원시 배열로 보관하고, 반복되는 값(고용형태/기업/지역)은 사전 인코딩하여 메모리를 줄입니다.
+ * 행은 목록 정렬 순서(createdAt desc, id desc)로 미리 정렬되어 있어 필터 → 페이징을 한 번의 순차 스캔으로 처리합니다.
+ * 생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ */
+public final class OpenJobSnapshot {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final long NO_CATEGORY = 0L; // 카테고리 미지정 (시퀀스 ID는 1부터)
+
+    static final Comparator<JobSummary> LIST_ORDER = Comparator
+            .comparing(JobSummary::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(JobSummary::getId)
+            .reversed();
+
+    // 행 컬럼 (정렬 순서)
+    private final long[] ids;
+    private final long[] createdAts;
+    private final long[] deadlines;
+    private final long[] categoryIds;
+    private final int[] employmentTypeCodes;
+    private final int[] companyCodes;
+    private final int[] locationCodes;
+    private final String[] titles;
+
+    // 사전
+    private final String[] employmentTypes;
+    private final long[] companyIds;
+    private final String[] companyNames;
+    private final String[] locations;
+    private final Map<Long, String> categoryNames;
+
+    // ID → 행 번호 (ID 오름차순 정렬 + 이진 탐색)
+    private final long[] sortedIds;
+    private final int[] rowsBySortedId;
+
+    private final long estimatedBytes;
+
+    private OpenJobSnapshot(List<JobSummary> rows) {
+        int n = rows.size();
+        ids = new long[n];
+        createdAts = new long[n];
+        deadlines = new long[n];
+        categoryIds = new long[n];
+        employmentTypeCodes = new int[n];
+        companyCodes = new int[n];
+        locationCodes = new int[n];
+        titles = new String[n];
+
+        Dictionary<String> typeDict = new Dictionary<>();
+        Dictionary<Long> companyDict = new Dictionary<>();
+        Dictionary<String> locationDict = new Dictionary<>();
+        Map<Long, String> companyNameById = new HashMap<>();
+        categoryNames = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            JobSummary row = rows.get(i);
+            ids[i] = row.getId();
+            createdAts[i] = encode(row.getCreatedAt());
+            deadlines[i] = encode(row.getDeadline());
+            categoryIds[i] = row.getCategoryId() != null ? row.getCategoryId() : NO_CATEGORY;
+            employmentTypeCodes[i] = typeDict.code(row.getEmploymentType());
+            companyCodes[i] = companyDict.code(row.getCompanyId());
+            locationCodes[i] = locationDict.code(row.getLocation());
+            titles[i] = row.getTitle();
+
+            companyNameById.putIfAbsent(row.getCompanyId(), row.getCompanyName());
+            categoryNames.putIfAbsent(categoryIds[i], row.getCategoryName());
+        }
+
+        employmentTypes = typeDict.values().toArray(String[]::new);
+        locations = locationDict.values().toArray(String[]::new);
+        companyIds = companyDict.values().stream().mapToLong(Long::longValue).toArray();
+        companyNames = companyDict.values().stream().map(companyNameById::get).toArray(String[]::new);
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> ids[i]));
+        sortedIds = new long[n];
+        rowsBySortedId = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedIds[i] = ids[order[i]];
+            rowsBySortedId[i] = order[i];
+        }
+        estimatedBytes = estimateBytes();
+    }
+
+    public static OpenJobSnapshot empty() {
+        return new OpenJobSnapshot(List.of());
+    }
+
+    /**
+     * 요약 행 목록으로 스냅샷 생성 (목록 정렬 순서로 정렬)
+     */
+    public static OpenJobSnapshot of(Collection<JobSummary> rows) {
+        List<JobSummary> sorted = new ArrayList<>(rows);
+        sorted.sort(LIST_ORDER);
+        return new OpenJobSnapshot(sorted);
+    }
+
+    /**
+     * 변경분을 반영한 새 스냅샷 (기존 스냅샷은 그대로 유지 - copy-on-write)
+     */
+    public OpenJobSnapshot withChanges(Set<Long> removedIds, Collection<JobSummary> upserts) {
+        List<JobSummary> rows = new ArrayList<>(ids.length + upserts.size());
+        for (int i = 0; i < ids.length; i++) {
+            if (!removedIds.contains(ids[i])) {
+                rows.add(row(i));
+            }
+        }
+        rows.addAll(upserts);
+        return of(rows);
+    }
+
+    /**
+     * 카테고리명 변경을 반영한 새 스냅샷 (삭제된 카테고리는 name == null)
+     */
+    public OpenJobSnapshot withCategoryName(long categoryId, String name) {
+        if (!categoryNames.containsKey(categoryId) || Objects.equals(categoryNames.get(categoryId), name)) {
+            return this;
+        }
+        List<JobSummary> rows = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            JobSummary row = row(i);
+            if (categoryIds[i] == categoryId) {
+                row = new JobSummary(row.getId(), row.getTitle(), row.getCompanyId(), row.getCompanyName(),
+                        row.getCategoryId(), name, row.getLocation(), row.getEmploymentType(),
+                        row.getCreatedAt(), row.getDeadline(), row.getStatus());
+            }
+            rows.add(row);
+        }
+        return new OpenJobSnapshot(rows); // 정렬 순서 변화 없음
+    }
+
+    /**
+     * 기업명 변경을 반영한 새 스냅샷
+     */
+    public OpenJobSnapshot withCompanyName(long companyId, String name) {
+        int companyCode = -1;
+        for (int code = 0; code < companyIds.length; code++) {
+            if (companyIds[code] == companyId) {
+                companyCode = code;
+                break;
+            }
+        }
+        if (companyCode < 0 || Objects.equals(companyNames[companyCode], name)) {
+            return this;
+        }
+        List<JobSummary> rows = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            JobSummary row = row(i);
+            if (companyCodes[i] == companyCode) {
+                row = new JobSummary(row.getId(), row.getTitle(), row.getCompanyId(), name,
+                        row.getCategoryId(), row.getCategoryName(), row.getLocation(), row.getEmploymentType(),
+                        row.getCreatedAt(), row.getDeadline(), row.getStatus());
+            }
+            rows.add(row);
+        }
+        return new OpenJobSnapshot(rows); // 정렬 순서 변화 없음
+    }
+
+    /**
+     * 필터링 + 페이징
+     *
+     * @param rankedIds   검색어 일치 공고 ID (관련도 순). null이면 전체 공고를 최신순으로 조회
+     * @param categoryIds 선택한 카테고리와 하위 카테고리 ID (오름차순 정렬). null이면 카테고리 조건 없음
+     */
+    public Page<JobSummary> query(List<Long> rankedIds, long[] categoryIds, String employmentType, Pageable pageable) {
+        int typeCode = NULL_CODE;
+        if (employmentType != null) {
+            typeCode = Arrays.asList(employmentTypes).indexOf(employmentType);
+            if (typeCode < 0) {
+                return Page.empty(pageable); // 공개 공고 중 해당 고용형태 없음
+            }
+        }
+
+        long from = pageable.getOffset();
+        long to = from + pageable.getPageSize();
+        List<JobSummary> content = new ArrayList<>(pageable.getPageSize());
+        long total = 0;
+
+        int candidates = rankedIds != null ? rankedIds.size() : ids.length;
+        for (int k = 0; k < candidates; k++) {
+            int row = rankedIds != null ? rowOf(rankedIds.get(k)) : k;
+            if (row < 0
+                    || (categoryIds != null && Arrays.binarySearch(categoryIds, this.categoryIds[row]) < 0)
+                    || (employmentType != null && employmentTypeCodes[row] != typeCode)) {
+                continue;
+            }
+            if (total >= from && total < to) {
+                content.add(row(row));
+            }
+            total++;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (배열 + 문자열, 객체 헤더 포함 추정치)
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private long estimateBytes() {
+        int n = ids.length;
+        long bytes = 16L * 12;                      // 배열 헤더
+        bytes += (long) n * 8 * 5;                  // long[] ids, createdAts, deadlines, categoryIds, sortedIds
+        bytes += (long) n * 4 * 4;                  // int[] 코드 3종 + rowsBySortedId
+        bytes += (long) n * 4;                      // titles 참조
+        bytes += stringBytes(titles);
+        bytes += stringBytes(employmentTypes) + stringBytes(companyNames) + stringBytes(locations);
+        bytes += (long) companyIds.length * 8;
+        bytes += categoryNames.size() * 64L + stringBytes(categoryNames.values().toArray(String[]::new));
+        return bytes;
+    }
+
+    private int rowOf(long jobId) {
+        int idx = Arrays.binarySearch(sortedIds, jobId);
+        return idx >= 0 ? rowsBySortedId[idx] : -1;
+    }
+
+    private JobSummary row(int i) {
+        int companyCode = companyCodes[i];
+        return new JobSummary(
+                ids[i],
+                titles[i],
+                companyCode != NULL_CODE ? companyIds[companyCode] : null,
+                companyCode != NULL_CODE ? companyNames[companyCode] : null,
+                categoryIds[i] != NO_CATEGORY ? categoryIds[i] : null,
+                categoryNames.get(categoryIds[i]),
+                locationCodes[i] != NULL_CODE ? locations[locationCodes[i]] : null,
+                employmentTypeCodes[i] != NULL_CODE ? employmentTypes[employmentTypeCodes[i]] : null,
+                decode(createdAts[i]),
+                decode(deadlines[i]),
+                JobStatus.OPEN);
+    }
+
+    private static long encode(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime decode(long value) {
+        if (value == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(value, 1_000_000_000L), (int) Math.floorMod(value, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    // 문자열 1개당 객체 헤더 + byte[] (한글 포함 시 UTF-16) 추정
+    private static long stringBytes(String[] values) {
+        long bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += 40 + value.length() * 2L;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 값 → 코드 사전 (null은 NULL_CODE)
+     */
+    private static final class Dictionary<T> {
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int code(T value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        List<T> values() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package min.boot.ats.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.domain.Company;
+import min.boot.ats.domain.JobCategory;
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.JobSummary;
+import min.boot.ats.event.CategoryChangedEvent;
+import min.boot.ats.event.CompanyChangedEvent;
+import min.boot.ats.event.JobChangedEvent;
+import min.boot.ats.repo.CompanyRepository;
+import min.boot.ats.repo.JobCategoryRepository;
+import min.boot.ats.repo.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공개(OPEN) 공고 목록 스냅샷 보관소
+ * 읽기는 volatile 참조 하나만 읽으므로 잠금이 없고, 변경은 새 스냅샷을 만들어 참조를 교체(copy-on-write)합니다.
+ *
+ * - 시작 시(ApplicationReadyEvent) 별도 스레드에서 적재하며, 적재 전(current() == null)에는 DB/캐시 조회로 대체됩니다.
+ * - 이후에는 JobChangedEvent / CategoryChangedEvent / CompanyChangedEvent(커밋 이후)로 변경분만 반영합니다.
+ * - 변경 반영에 실패하면 스냅샷을 내리고(DB/캐시 조회로 대체) 별도 스레드에서 재적재합니다. (실패 시 간격을 늘려 재시도)
+ * - 공고 수/추정 메모리 사용량은 Micrometer(jobs.open.snapshot.*)와 관리자 API로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class OpenJobSnapshotStore {
+
+    private static final int BATCH_SIZE = 500;
+    private static final OpenJobSnapshot EMPTY = OpenJobSnapshot.empty();
+    private static final int RECOVERY_ATTEMPTS = 5;
+    private static final Duration RECOVERY_BACKOFF = Duration.ofSeconds(5); // 시도마다 배수로 증가
+
+    private final JobRepository jobRepository;
+    private final JobCategoryRepository categoryRepository;
+    private final CompanyRepository companyRepository;
+
+    private final ReentrantLock updateLock = new ReentrantLock(); // 변경 반영 작업 직렬화
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicBoolean recovering = new AtomicBoolean(false); // 반영 실패 후 재적재 스레드 실행 중
+
+    private volatile OpenJobSnapshot snapshot;   // 적재 전에는 null
+    private Set<Long> pendingDuringRebuild;      // 재적재 중 변경된 공고 ID (updateLock으로 보호)
+    private Set<Long> pendingCompaniesDuringRebuild; // 재적재 중 기업명이 변경된 기업 ID (updateLock으로 보호)
+
+    public OpenJobSnapshotStore(JobRepository jobRepository, JobCategoryRepository categoryRepository,
+                                CompanyRepository companyRepository, MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.categoryRepository = categoryRepository;
+        this.companyRepository = companyRepository;
+
+        Gauge.builder("jobs.open.snapshot.size", this, store -> store.snapshotOrEmpty().size())
+                .description("공개 공고 스냅샷 공고 수")
+                .register(meterRegistry);
+        Gauge.builder("jobs.open.snapshot.bytes", this, store -> store.snapshotOrEmpty().estimatedBytes())
+                .description("공개 공고 스냅샷 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 적재되지 않았으면 null)
+     */
+    public OpenJobSnapshot current() {
+        return snapshot;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * [스냅샷 전체 재적재]
+     * 새 스냅샷을 별도로 만든 뒤 교체하므로 재적재 중에도 기존 스냅샷으로 조회가 가능합니다.
+     * 재적재 도중 변경된 공고는 교체 직후 다시 반영합니다.
+     */
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("공개 공고 스냅샷 재적재가 이미 진행 중입니다.");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            updateLock.lock();
+            try {
+                pendingDuringRebuild = new HashSet<>();
+                pendingCompaniesDuringRebuild = new HashSet<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            List<JobSummary> rows = new ArrayList<>();
+            Long lastId = null;
+            while (true) {
+                List<JobSummary> batch = jobRepository.findSummariesByStatusAfterId(JobStatus.OPEN, lastId, BATCH_SIZE);
+                rows.addAll(batch);
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            OpenJobSnapshot fresh = OpenJobSnapshot.of(rows);
+
+            updateLock.lock();
+            try {
+                snapshot = fresh;
+                Set<Long> pending = pendingDuringRebuild;
+                pendingDuringRebuild = null;
+                reload(pending);
+                Set<Long> pendingCompanies = pendingCompaniesDuringRebuild;
+                pendingCompaniesDuringRebuild = null;
+                pendingCompanies.forEach(this::reloadCompanyName);
+            } finally {
+                updateLock.unlock();
+            }
+
+            Map<String, Object> stats = stats();
+            log.info("공개 공고 스냅샷 적재 완료: {} ({}ms)", stats, System.currentTimeMillis() - started);
+            return stats;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        OpenJobSnapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", current != null);
+        stats.put("jobs", current != null ? current.size() : 0);
+        stats.put("estimatedBytes", current != null ? current.estimatedBytes() : 0L);
+        return stats;
+    }
+
+    /**
+     * 공고 변경 반영 (트랜잭션 커밋 이후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.REORDERED) {
+            return; // 목록 필드 변경 없음
+        }
+        updateLock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(event.getJobIds());
+            }
+            if (snapshot == null) {
+                return; // 적재 완료 후 pending으로 반영
+            }
+
+            boolean removeOnly = event.getType() == JobChangedEvent.Type.DELETED
+                    || (event.getType() == JobChangedEvent.Type.STATUS_CHANGED && event.getStatus() != JobStatus.OPEN);
+            if (removeOnly) {
+                snapshot = snapshot.withChanges(new HashSet<>(event.getJobIds()), List.of());
+            } else {
+                reload(event.getJobIds());
+            }
+        } catch (RuntimeException e) {
+            // 반영 실패가 이미 커밋된 요청을 실패시키지 않도록 스냅샷을 내리고 DB 조회로 대체 (백그라운드 재적재로 복구)
+            log.error("공개 공고 스냅샷 반영 실패: {} {}", event.getType(), event.getJobIds(), e);
+            dropAndRecover();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 카테고리명 변경 반영 (목록에 카테고리명이 포함되므로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        String name = categoryRepository.findById(event.getCategoryId())
+                .map(JobCategory::getName)
+                .orElse(null);
+        updateLock.lock();
+        try {
+            if (snapshot != null) {
+                snapshot = snapshot.withCategoryName(event.getCategoryId(), name);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 기업명 변경 반영 (목록에 기업명이 포함되므로)
+     * 재적재 중이면 새 스냅샷이 변경 전 기업명을 읽었을 수 있으므로 교체 직후 다시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        updateLock.lock();
+        try {
+            if (pendingCompaniesDuringRebuild != null) {
+                pendingCompaniesDuringRebuild.add(event.getCompanyId());
+            }
+            reloadCompanyName(event.getCompanyId());
+        } catch (RuntimeException e) {
+            log.error("공개 공고 스냅샷 기업명 반영 실패: companyId={}", event.getCompanyId(), e);
+            dropAndRecover();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    // 스냅샷을 내리고 별도 스레드에서 재적재 (updateLock을 잡은 상태에서 호출)
+    // 이미 진행 중인 재적재가 있으면 그 재적재가 pending으로 이번 변경까지 반영하므로 끝나기를 기다렸다가 확인만 합니다.
+    private void dropAndRecover() {
+        snapshot = null;
+        if (recovering.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("open-job-snapshot-recovery").start(this::recover);
+        }
+    }
+
+    // 스냅샷이 다시 적재될 때까지 재적재 (시도 사이 대기는 점점 늘림)
+    // 종료 판단과 recovering 해제는 updateLock 안에서 하여, 그 사이 다시 내려간 스냅샷을 놓치지 않습니다.
+    private void recover() {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                if (!rebuilding.get()) {
+                    try {
+                        rebuild();
+                    } catch (RuntimeException e) {
+                        log.warn("공개 공고 스냅샷 재적재 실패 ({}/{})", attempt, RECOVERY_ATTEMPTS, e);
+                    }
+                }
+                updateLock.lock();
+                try {
+                    if (snapshot != null || attempt >= RECOVERY_ATTEMPTS) {
+                        recovering.set(false);
+                        if (snapshot == null) {
+                            log.error("공개 공고 스냅샷 재적재 {}회 실패 - DB 조회로 계속 대체되며 관리자 API로 재적재가 필요합니다.",
+                                    RECOVERY_ATTEMPTS);
+                        }
+                        return;
+                    }
+                } finally {
+                    updateLock.unlock();
+                }
+                Thread.sleep(RECOVERY_BACKOFF.multipliedBy(attempt));
+            }
+        } catch (InterruptedException e) {
+            recovering.set(false);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // DB에서 현재 상태를 다시 읽어 반영 (OPEN이 아니거나 삭제된 공고는 제거)
+    private void reload(Collection<Long> jobIds) {
+        if (jobIds.isEmpty() || snapshot == null) {
+            return;
+        }
+        List<JobSummary> openRows = jobRepository.findSummariesByIds(jobIds, JobStatus.OPEN);
+        snapshot = snapshot.withChanges(new HashSet<>(jobIds), openRows);
+    }
+
+    // DB에서 현재 기업명을 읽어 반영 (삭제된 기업의 공고는 공고 삭제 이벤트로 제거됨)
+    private void reloadCompanyName(Long companyId) {
+        if (snapshot == null) {
+            return;
+        }
+        companyRepository.findById(companyId)
+                .map(Company::getName)
+                .ifPresent(name -> snapshot = snapshot.withCompanyName(companyId, name));
+    }
+
+    private OpenJobSnapshot snapshotOrEmpty() {
+        OpenJobSnapshot current = snapshot;
+        return current != null ? current : EMPTY;
+    }
+}
@@ -0,0 +1,117 @@
+package min.boot.ats.component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import min.boot.ats.dto.JobSummary;
+import min.boot.ats.event.CompanyChangedEvent;
+import min.boot.ats.event.JobChangedEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 공개 공고 목록(/api/jobs/open) 단기 캐시
+ * 대부분의 요청이 소수의 필터 조합(검색어 없음 + 자주 쓰는 카테고리/고용형태)에 몰리므로
+ * 목록(페이지)과 전체 건수(count)를 짧은 TTL로 캐시하여 Oracle 조회를 줄입니다.
+ *
+ * - 같은 키의 동시 미스는 한 번만 로드하고 나머지는 결과를 기다립니다. (로드는 캐시 잠금 밖에서 실행 - CacheLoadSupport)
+ * - 공고 변경(JobChangedEvent, 마감 스케줄러 포함)과 기업명 변경(CompanyChangedEvent) 시 전체 무효화합니다.
+ * - 적중/미스 지표는 Micrometer(cache.gets 등, cache=openJobs.*)로 노출됩니다.
+ */
+@Component
+public class OpenJobsCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_PAGES = 2_000;
+    private static final int MAX_COUNTS = 500;
+
+    private final AsyncCache<PageKey, List<JobSummary>> pages;
+    private final AsyncCache<FilterKey, Long> counts;
+
+    // 무효화 세대: 무효화 이전에 시작된 로드 결과가 새 키로 저장되는 것을 막습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public OpenJobsCache(MeterRegistry meterRegistry) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(MAX_PAGES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .buildAsync();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(MAX_COUNTS)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "openJobs.pages");
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "openJobs.counts");
+    }
+
+    /**
+     * 필터 조건을 정규화하여 캐시 키 생성 (검색어 공백/대소문자 통일, 빈 검색어는 null)
+     */
+    public FilterKey filterKey(String title, Long categoryId, String employmentType) {
+        String normalizedTitle = null;
+        if (title != null && !title.isBlank()) {
+            normalizedTitle = title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+        return new FilterKey(generation.get(), normalizedTitle, categoryId, employmentType);
+    }
+
+    public List<JobSummary> getPage(FilterKey filter, Pageable pageable, Supplier<List<JobSummary>> loader) {
+        PageKey key = new PageKey(filter, pageable.getPageNumber(), pageable.getPageSize());
+        return CacheLoadSupport.get(pages, key, k -> List.copyOf(loader.get()));
+    }
+
+    public long getCount(FilterKey filter, LongSupplier loader) {
+        return CacheLoadSupport.get(counts, filter, k -> loader.getAsLong());
+    }
+
+    // 목록 조회 시 함께 계산된 전체 건수 재사용
+    public void putCountIfAbsent(FilterKey filter, long count) {
+        counts.asMap().putIfAbsent(filter, CompletableFuture.completedFuture(count));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() != JobChangedEvent.Type.REORDERED) { // 순서 변경은 목록 정보와 무관
+            invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        invalidateAll(); // 목록에 기업명이 포함됨
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        pages.synchronous().invalidateAll();
+        counts.synchronous().invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pages", CacheStatsSupport.toMap(pages.synchronous()));
+        stats.put("counts", CacheStatsSupport.toMap(counts.synchronous()));
+        return stats;
+    }
+
+    public record FilterKey(long generation, String title, Long categoryId, String employmentType) {
+    }
+
+    private record PageKey(FilterKey filter, int page, int size) {
+    }
+}
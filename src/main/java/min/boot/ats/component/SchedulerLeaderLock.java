@@ -0,0 +1,95 @@
+package min.boot.ats.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.event.LeadershipAcquiredEvent;
+import min.boot.ats.repo.SchedulerLockRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 리더 선출 (DB lease 잠금)
+ * 여러 노드가 같은 시각에 같은 마감 UPDATE를 실행하며 행 잠금을 다투지 않도록,
+ * scheduler_locks 행의 lease를 보유한 노드만 리더로 간주합니다.
+ *
+ * - HEARTBEAT 주기로 lease를 획득/연장하고, 연장에 실패하면 즉시 리더에서 내려옵니다.
+ * - 로컬 판단은 lease보다 SAFETY_MARGIN만큼 일찍 만료시켜 두 노드가 동시에 리더로 동작하지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaderLock {
+
+    private static final String LOCK_NAME = "scheduler";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration SAFETY_MARGIN = Duration.ofSeconds(5);
+    private static final long HEARTBEAT_MILLIS = 10_000;
+
+    private final SchedulerLockRepository lockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String owner;
+
+    private volatile boolean leader;
+    private volatile long leaseExpiresNanos;
+
+    public SchedulerLeaderLock(SchedulerLockRepository lockRepository, ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.lockRepository = lockRepository;
+        this.eventPublisher = eventPublisher;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        Gauge.builder("scheduler.leader", this, lock -> lock.isLeader() ? 1 : 0)
+                .description("이 노드가 스케줄 작업 리더인지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isLeader() {
+        return leader && System.nanoTime() - leaseExpiresNanos < 0;
+    }
+
+    @Scheduled(fixedDelay = HEARTBEAT_MILLIS)
+    public void heartbeat() {
+        boolean wasLeader = isLeader();
+        long requestedAt = System.nanoTime(); // 요청 전 시각 기준으로 보수적으로 계산
+
+        boolean acquired;
+        try {
+            acquired = lockRepository.tryAcquire(LOCK_NAME, owner, LEASE.toSeconds()) == 1
+                    || lockRepository.insertIfAbsent(LOCK_NAME, owner, LEASE.toSeconds()) == 1;
+        } catch (DataAccessException e) {
+            // DB 장애 또는 동시 생성 경합 → 이번 주기는 리더 아님
+            log.warn("스케줄러 리더 잠금 갱신 실패: {}", e.getMessage());
+            acquired = false;
+        }
+
+        leaseExpiresNanos = requestedAt + LEASE.minus(SAFETY_MARGIN).toNanos();
+        leader = acquired;
+
+        if (acquired && !wasLeader) {
+            log.info("스케줄러 리더 획득: {}", owner);
+            eventPublisher.publishEvent(new LeadershipAcquiredEvent(owner));
+        } else if (!acquired && wasLeader) {
+            log.warn("스케줄러 리더 상실: {}", owner);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!isLeader()) {
+            return;
+        }
+        leader = false;
+        try {
+            lockRepository.release(LOCK_NAME, owner);
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 리더 잠금 반납 실패 (lease 만료 후 자동 해제): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package min.boot.ats.component;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 응답 본문을 받은 즉시 UTF-8 텍스트 조각으로 넘기는 BodySubscriber (전체 본문을 모으지 않음)
+ *
+ * - 조각 하나를 넘긴 뒤에 다음 조각을 요청하므로, 받는 쪽(클라이언트 전송)이 느리면 외부 서버 읽기도 함께 늦춰집니다.
+ * - 여러 바이트 문자가 조각 경계에서 잘려도 다음 조각과 이어 붙여 디코딩합니다.
+ * - 조각 사이 간격이 idleTimeout을 넘기면 HttpTimeoutException으로 중단합니다. (요청 타임아웃은 응답 헤더까지만 적용됨)
+ * - 받는 쪽에서 예외가 나면(클라이언트 연결 종료 등) 구독을 취소하고 CancellationException으로 끝냅니다.
+ */
+class TextStreamSubscriber implements HttpResponse.BodySubscriber<Void> {
+
+    private final Consumer<String> onChunk;
+    private final long idleNanos;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CompletableFuture<Void> body = new CompletableFuture<>();
+
+    private byte[] pending = new byte[0]; // 조각 경계에서 잘린 문자 바이트
+    private volatile Flow.Subscription subscription;
+    private volatile long lastChunkAt;
+
+    TextStreamSubscriber(Consumer<String> onChunk, Duration idleTimeout) {
+        this.onChunk = onChunk;
+        this.idleNanos = idleTimeout.toNanos();
+    }
+
+    @Override
+    public CompletionStage<Void> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        lastChunkAt = System.nanoTime();
+        scheduleIdleCheck(idleNanos);
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        lastChunkAt = System.nanoTime();
+        if (body.isDone()) {
+            return;
+        }
+        if (deliver(decode(buffers, false))) {
+            lastChunkAt = System.nanoTime(); // 수신 측 전송 시간은 외부 서버 유휴 시간에서 제외
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (deliver(decode(List.of(), true))) {
+            body.complete(null);
+        }
+    }
+
+    private boolean deliver(String text) {
+        if (text.isEmpty()) {
+            return true;
+        }
+        try {
+            onChunk.accept(text);
+            return true;
+        } catch (RuntimeException e) {
+            CancellationException cancelled = new CancellationException("스트림 수신 측 오류로 중단: " + e.getMessage());
+            cancelled.initCause(e);
+            abort(cancelled);
+            return false;
+        }
+    }
+
+    private void abort(Throwable cause) {
+        if (body.completeExceptionally(cause)) {
+            subscription.cancel();
+        }
+    }
+
+    private String decode(List<ByteBuffer> buffers, boolean endOfInput) {
+        int size = pending.length;
+        for (ByteBuffer buffer : buffers) {
+            size += buffer.remaining();
+        }
+        ByteBuffer in = ByteBuffer.allocate(size).put(pending);
+        buffers.forEach(in::put);
+        in.flip();
+
+        CharBuffer out = CharBuffer.allocate((int) (size * decoder.maxCharsPerByte()) + 1);
+        decoder.decode(in, out, endOfInput);
+        if (endOfInput) {
+            decoder.flush(out);
+        }
+        pending = new byte[in.remaining()];
+        in.get(pending);
+        return out.flip().toString();
+    }
+
+    private void scheduleIdleCheck(long delayNanos) {
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (body.isDone()) {
+                return;
+            }
+            long idle = System.nanoTime() - lastChunkAt;
+            if (idle >= idleNanos) {
+                abort(new HttpTimeoutException("챗봇 서버 스트림 응답이 " + idleNanos / 1_000_000 + "ms 동안 없습니다."));
+            } else {
+                scheduleIdleCheck(idleNanos - idle);
+            }
+        });
+    }
+}
@@ -48,6 +48,11 @@ public class SecurityConfig {
                         // 2. [제한 규칙] 권한이 필요한 요청을 '먼저' 선언 (순서 중요!)
                         // =========================================================
 
+                        // [API 보안] 공고 일괄 등록 및 진행 상황 조회는 담당자만 가능 (GET 포함)
+                        .requestMatchers("/api/jobs/imports/**").hasAnyRole("ADMIN", "RECRUITER")
+                        // [API 보안] 기업 공고 내보내기(임시 저장 공고 포함)는 담당자만 가능
+                        .requestMatchers(HttpMethod.GET, "/api/jobs/company/*/export").hasAnyRole("ADMIN", "RECRUITER")
+
                         // [API 보안] 데이터 변경(POST, PUT, DELETE)은 담당자만 가능
                         .requestMatchers(HttpMethod.POST, "/api/jobs/**").hasAnyRole("ADMIN", "RECRUITER")
                         .requestMatchers(HttpMethod.PUT, "/api/jobs/**").hasAnyRole("ADMIN", "RECRUITER")
@@ -56,6 +61,11 @@ public class SecurityConfig {
 
                         .requestMatchers("/api/companies/**").permitAll()
 
+                        // [운영 관리] 색인/캐시 관리 API는 관리자만 가능
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // [View 보안] 관리자용 페이지 접근 차단 (새로고침 시 방어)
                         .requestMatchers(
                                 "/jobs/new",
@@ -0,0 +1,145 @@
+package min.boot.ats.control;
+
+import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.ChatbotAnswerCache;
+import min.boot.ats.component.ChatbotClient;
+import min.boot.ats.component.ChatbotRequestCoalescer;
+import min.boot.ats.component.JobDetailCache;
+import min.boot.ats.component.JobExpiryTimer;
+import min.boot.ats.component.JobSearchIndex;
+import min.boot.ats.component.OpenJobSnapshotStore;
+import min.boot.ats.component.OpenJobsCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 운영 관리용 API (ADMIN 권한 전용)
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final JobSearchIndex jobSearchIndex;
+    private final OpenJobsCache openJobsCache;
+    private final JobDetailCache jobDetailCache;
+    private final OpenJobSnapshotStore openJobSnapshotStore;
+    private final JobExpiryTimer jobExpiryTimer;
+    private final ChatbotClient chatbotClient;
+    private final ChatbotAnswerCache chatbotAnswerCache;
+    private final ChatbotRequestCoalescer chatbotRequestCoalescer;
+
+    /*
+    [검색 색인 상태 조회]
+     */
+    @GetMapping("/search-index")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStats() {
+        return ResponseEntity.ok(jobSearchIndex.stats());
+    }
+
+    /*
+    [검색 색인 재구축] - DB 기준으로 전체 색인을 다시 생성 (장애 복구용)
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        return ResponseEntity.ok(jobSearchIndex.rebuild());
+    }
+
+    /*
+    [공개 공고 목록 캐시 상태 조회] - 크기 및 적중/미스 통계
+     */
+    @GetMapping("/caches/open-jobs")
+    public ResponseEntity<Map<String, Object>> getOpenJobsCacheStats() {
+        return ResponseEntity.ok(openJobsCache.stats());
+    }
+
+    /*
+    [공개 공고 목록 캐시 비우기]
+     */
+    @DeleteMapping("/caches/open-jobs")
+    public ResponseEntity<Void> clearOpenJobsCache() {
+        openJobsCache.invalidateAll();
+        return ResponseEntity.ok().build();
+    }
+
+    /*
+    [공고 상세 캐시 상태 조회] - 크기/용량 및 적중/미스 통계
+     */
+    @GetMapping("/caches/job-detail")
+    public ResponseEntity<Map<String, Object>> getJobDetailCacheStats() {
+        return ResponseEntity.ok(jobDetailCache.stats());
+    }
+
+    /*
+    [공고 상세 캐시 전체 비우기]
+     */
+    @DeleteMapping("/caches/job-detail")
+    public ResponseEntity<Void> clearJobDetailCache() {
+        jobDetailCache.invalidateAll();
+        return ResponseEntity.ok().build();
+    }
+
+    /*
+    [공고 상세 캐시 단건 비우기]
+     */
+    @DeleteMapping("/caches/job-detail/{jobId}")
+    public ResponseEntity<Void> evictJobDetail(@PathVariable Long jobId) {
+        jobDetailCache.invalidate(jobId);
+        return ResponseEntity.ok().build();
+    }
+
+    /*
+    [공개 공고 스냅샷 상태 조회] - 공고 수 및 추정 메모리 사용량
+     */
+    @GetMapping("/snapshots/open-jobs")
+    public ResponseEntity<Map<String, Object>> getOpenJobSnapshotStats() {
+        return ResponseEntity.ok(openJobSnapshotStore.stats());
+    }
+
+    /*
+    [공개 공고 스냅샷 재적재] - DB 기준으로 스냅샷을 다시 생성 (장애 복구용)
+     */
+    @PostMapping("/snapshots/open-jobs/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildOpenJobSnapshot() {
+        return ResponseEntity.ok(openJobSnapshotStore.rebuild());
+    }
+
+    /*
+    [공고 마감 타이머 상태 조회] - 대기 중인 공고 수, 다음 마감 시각, 누적 마감 건수
+     */
+    @GetMapping("/expiry-timer")
+    public ResponseEntity<Map<String, Object>> getExpiryTimerStats() {
+        return ResponseEntity.ok(jobExpiryTimer.stats());
+    }
+
+    /*
+    [챗봇 서버 호출 상태 조회] - 서킷 상태, 최근 실패율, 진행 중 호출 수, 동일 질문 병합 비율
+     */
+    @GetMapping("/chatbot")
+    public ResponseEntity<Map<String, Object>> getChatbotStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("upstream", chatbotClient.stats());
+        stats.put("coalescing", chatbotRequestCoalescer.stats());
+        return ResponseEntity.ok(stats);
+    }
+
+    /*
+    [챗봇 답변 캐시 상태 조회] - 크기 및 적중/미스 통계
+     */
+    @GetMapping("/caches/chatbot-answers")
+    public ResponseEntity<Map<String, Object>> getChatbotAnswerCacheStats() {
+        return ResponseEntity.ok(chatbotAnswerCache.stats());
+    }
+
+    /*
+    [챗봇 답변 캐시 비우기] - 챗봇 학습 데이터 갱신 후 사용
+     */
+    @DeleteMapping("/caches/chatbot-answers")
+    public ResponseEntity<Void> clearChatbotAnswerCache() {
+        chatbotAnswerCache.invalidateAll();
+        return ResponseEntity.ok().build();
+    }
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package min.boot.ats.control;
 
 import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.CategoryTreeCache;
 import min.boot.ats.dto.CategoryRequestDto;
 import min.boot.ats.dto.CategoryResponseDto;
 import min.boot.ats.service.CategoryService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,8 +25,25 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryResponseDto>> getAllCategories(WebRequest request) {
+        // 카테고리 버전이 같으면 본문 없이 304 Not Modified 응답
+        CategoryTreeCache.Snapshot tree = categoryService.getCategoryTree();
+        if (request.checkNotModified(tree.version())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(tree.version())
+                .body(tree.roots());
+    }
+
+    // 클라이언트가 보관 중인 트리의 최신 여부만 확인할 때 사용 (본문 없이 버전 문자열만 반환)
+    @GetMapping("/version")
+    public ResponseEntity<String> getCategoriesVersion() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(categoryService.getCategoryTree().version());
     }
 
     @PutMapping("/{id}")
@@ -1,34 +1,120 @@
 package min.boot.ats.control;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.component.ChatbotAnswerCache;
+import min.boot.ats.component.ChatbotClient;
+import min.boot.ats.component.ChatbotRequestCoalescer;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/chatbot")
 @RequiredArgsConstructor
 public class ChatController {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String FALLBACK_ANSWER = "AI 서버와 연결할 수 없습니다. (Flask 서버 실행 확인 필요)";
+    private static final long STREAM_TIMEOUT_MILLIS = 180_000;
+
+    private final ChatbotClient chatbotClient;
+    private final ChatbotAnswerCache chatbotAnswerCache;
+    private final ChatbotRequestCoalescer chatbotRequestCoalescer;
 
     @PostMapping("/ask")
-    public ResponseEntity<Map<String, Object>> askToFlask(@RequestBody Map<String, String> request) {
-        // Flask 서버 주소 (Python 서버가 5000포트에서 실행 중이어야 함)
-        String flaskUrl = "http://localhost:5000/api/chatbot/ask";
-
-        try {
-            // Flask 서버로 요청 중계
-            ResponseEntity<Map> response = restTemplate.postForEntity(flaskUrl, request, Map.class);
-            return ResponseEntity.ok(response.getBody());
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError().body(Map.of("answer", "AI 서버와 연결할 수 없습니다. (Flask 서버 실행 확인 필요)"));
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> askToFlask(@RequestBody Map<String, String> request) {
+        // 자주 묻는 질문은 캐시된 답변으로 바로 응답
+        String cacheKey = chatbotAnswerCache.key(request);
+        if (cacheKey != null) {
+            Map<String, Object> cached = chatbotAnswerCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(ResponseEntity.ok(cached));
+            }
+        }
+
+        // Flask 서버로 요청 중계 (답변을 기다리는 동안 요청 스레드를 점유하지 않음)
+        // 같은 질문이 이미 호출 중이면 새로 호출하지 않고 그 결과를 함께 받음
+        String coalesceKey = chatbotRequestCoalescer.key(request);
+        return chatbotRequestCoalescer.ask(coalesceKey, () -> chatbotClient.ask(request)
+                        .thenApply(answer -> {
+                            if (cacheKey != null) {
+                                chatbotAnswerCache.put(cacheKey, answer);
+                            }
+                            return answer;
+                        }))
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    // 타임아웃/연결 실패/서킷 차단/동시 호출 초과 모두 같은 안내 문구로 응답 (캐시하지 않음)
+                    log.warn("챗봇 서버 호출 실패: {}", e.getMessage());
+                    return ResponseEntity.internalServerError().body(Map.of("answer", FALLBACK_ANSWER));
+                });
+    }
+
+    /*
+    [챗봇 답변 스트리밍] - SSE(text/event-stream)로 답변을 생성되는 대로 전달
+    이벤트: chunk {"text": 답변 조각} 반복 → done {} (실패 시 error {"answer": 안내 문구})
+    - 응답은 비동기로 전송되어 스트림 동안 요청 스레드를 점유하지 않습니다.
+    - 클라이언트가 연결을 끊으면(전송 실패/타임아웃) Flask 호출도 즉시 끊습니다.
+     */
+    @PostMapping(value = "/ask/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter askToFlaskStream(@RequestBody Map<String, String> request) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+
+        // 캐시된 답변은 한 번에 전달
+        String cacheKey = chatbotAnswerCache.key(request);
+        Map<String, Object> cached = cacheKey != null ? chatbotAnswerCache.getIfPresent(cacheKey) : null;
+        if (cached != null && cached.get("answer") instanceof String answer) {
+            try {
+                emitter.send(SseEmitter.event().name("chunk").data(Map.of("text", answer), MediaType.APPLICATION_JSON));
+                emitter.send(SseEmitter.event().name("done").data(Map.of(), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            return emitter;
         }
+
+        CompletableFuture<Void> call = chatbotClient.stream(request, chunk -> {
+            try {
+                emitter.send(SseEmitter.event().name("chunk").data(Map.of("text", chunk), MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // 클라이언트 연결 종료 → Flask 호출 중단
+            }
+        });
+        call.whenComplete((ignored, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                return; // 클라이언트가 이미 떠남
+            }
+            try {
+                if (cause == null) {
+                    emitter.send(SseEmitter.event().name("done").data(Map.of(), MediaType.APPLICATION_JSON));
+                } else {
+                    log.warn("챗봇 서버 스트리밍 실패: {}", cause.getMessage());
+                    emitter.send(SseEmitter.event().name("error").data(Map.of("answer", FALLBACK_ANSWER), MediaType.APPLICATION_JSON));
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e); // 전송 중 연결 종료 또는 이미 완료됨
+            }
+        });
+
+        // 연결 종료/타임아웃/오류로 응답이 끝나면 진행 중인 Flask 호출 취소 (이미 끝났으면 무시됨)
+        emitter.onTimeout(() -> call.cancel(true));
+        emitter.onError(e -> call.cancel(true));
+        emitter.onCompletion(() -> call.cancel(true));
+        return emitter;
     }
 }
@@ -3,6 +3,7 @@ package min.boot.ats.control;
 import lombok.RequiredArgsConstructor;
 import min.boot.ats.dto.CompanyRequestDto;
 import min.boot.ats.dto.CompanyResponseDto;
+import min.boot.ats.service.CascadeDeleteService;
 import min.boot.ats.service.CompanyService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +16,7 @@ import java.util.List;
 public class CompanyController {
 
     private final CompanyService companyService;
+    private final CascadeDeleteService cascadeDeleteService;
 
     @PostMapping
     public ResponseEntity<Long> createCompany(@RequestBody CompanyRequestDto dto) {
@@ -35,7 +37,7 @@ public class CompanyController {
 
     @DeleteMapping("/{companyId}")
     public ResponseEntity<Void> deleteCompany(@PathVariable Long companyId) {
-        companyService.deleteCompany(companyId);
+        cascadeDeleteService.deleteCompany(companyId);
         return ResponseEntity.ok().build();
     }
 
@@ -2,14 +2,34 @@ package min.boot.ats.control;
 
 import lombok.RequiredArgsConstructor;
 import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.CursorPageResponseDto;
+import min.boot.ats.dto.JobBulkStatusRequestDto;
+import min.boot.ats.dto.JobBulkStatusResponseDto;
+import min.boot.ats.dto.JobElementMoveRequestDto;
+import min.boot.ats.dto.JobFacetResponseDto;
 import min.boot.ats.dto.JobRequestDto;
 import min.boot.ats.dto.JobResponseDto;
 import min.boot.ats.dto.JobReorderRequestDto;
+import min.boot.ats.dto.JobSummary;
+import min.boot.ats.dto.JobVersions;
+import min.boot.ats.service.CascadeDeleteService;
+import min.boot.ats.service.JobExportService;
 import min.boot.ats.service.JobService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -17,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
 public class JobController {
 
     private final JobService jobService;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final JobExportService jobExportService;
 
     /*
      [채용 공고 등록]
@@ -51,6 +73,32 @@ public class JobController {
         return ResponseEntity.ok().build();
     }
 
+    /*
+    [전형 단계 1건 이동] - 드래그 앤 드롭용 (afterId 바로 뒤로, afterId가 없으면 맨 앞으로)
+     */
+    @PutMapping("/{jobId}/steps/{stepId}/move")
+    public ResponseEntity<Void> moveStep(
+            @PathVariable Long jobId,
+            @PathVariable Long stepId,
+            @RequestBody JobElementMoveRequestDto dto
+    ) {
+        jobService.moveStep(jobId, stepId, dto.getAfterId());
+        return ResponseEntity.ok().build();
+    }
+
+    /*
+    [문항 1건 이동] - 드래그 앤 드롭용 (afterId 바로 뒤로, afterId가 없으면 맨 앞으로)
+     */
+    @PutMapping("/{jobId}/questions/{questionId}/move")
+    public ResponseEntity<Void> moveQuestion(
+            @PathVariable Long jobId,
+            @PathVariable Long questionId,
+            @RequestBody JobElementMoveRequestDto dto
+    ) {
+        jobService.moveQuestion(jobId, questionId, dto.getAfterId());
+        return ResponseEntity.ok().build();
+    }
+
     /*
     [채용 공고 상태 변경]
      */
@@ -61,17 +109,34 @@ public class JobController {
         return ResponseEntity.ok().build();
     }
 
+    /*
+    [채용 공고 일괄 상태 변경] - 공고 ID 목록 또는 기업 + 필터로 대상 지정, 공고별 결과 반환
+     */
+    @PutMapping("/status")
+    public ResponseEntity<JobBulkStatusResponseDto> updateStatusInBulk(@RequestBody JobBulkStatusRequestDto dto) {
+        return ResponseEntity.ok(jobService.updateStatusInBulk(dto));
+    }
+
     /*
      [채용 공고 상세 조회]
      */
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobResponseDto> getJob(@PathVariable Long jobId) {
+    public ResponseEntity<JobResponseDto> getJob(@PathVariable Long jobId, WebRequest request) {
+        // 버전이 같으면 상세 DTO를 만들지 않고 304 Not Modified 응답
+        if (request.checkNotModified(jobService.getJobETag(jobId))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(jobService.getJobDetail(jobId));
+        JobResponseDto dto = jobService.getJobDetail(jobId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 저장은 허용하되 매번 ETag로 재검증
+                .eTag(JobService.toETag(dto.getId(),
+                        new JobVersions(dto.getVersion(), dto.getCompanyVersion(), dto.getCategoryVersion())))
+                .body(dto);
     }
 
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<Page<JobResponseDto>> getCompanyJobs(
+    public ResponseEntity<Page<JobSummary>> getCompanyJobs(
             @PathVariable Long companyId,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String status, // "ALL", "OPEN" 등 문자열로 받음
@@ -85,11 +150,90 @@ public class JobController {
         return ResponseEntity.ok(jobService.getCompanyJobsPaging(companyId, title, jobStatus, pageable));
     }
 
+    /*
+    [기업별 공고 내보내기] - CSV/NDJSON 스트리밍 (Accept-Encoding: gzip이면 gzip 압축)
+     */
+    @GetMapping("/company/{companyId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCompanyJobs(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = JobExportService.FORMAT_CSV) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        if (!format.equals(JobExportService.FORMAT_CSV) && !format.equals(JobExportService.FORMAT_NDJSON)) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+        JobStatus jobStatus = (status != null && !status.equals("ALL"))
+                ? JobStatus.valueOf(status)
+                : null;
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        // 응답 스트림에 직접 쓰므로 전체 결과를 메모리에 만들지 않음 (커서/트랜잭션은 쓰기 스레드에서 열림)
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true); // flush 시 압축 블록도 전송
+                jobExportService.exportCompanyJobs(companyId, jobStatus, title, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                jobExportService.exportCompanyJobs(companyId, jobStatus, title, format, out);
+            }
+        };
+
+        String fileName = "company-" + companyId + "-jobs." + format;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.equals(JobExportService.FORMAT_CSV)
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /*
+    [기업별 공고 목록 조회] - 전형 단계/문항 포함 (채용 담당자 대시보드)
+     */
+    @GetMapping("/company/{companyId}/details")
+    public ResponseEntity<Page<JobResponseDto>> getCompanyJobsWithDetails(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String status,
+            Pageable pageable) {
+
+        JobStatus jobStatus = (status != null && !status.equals("ALL"))
+                ? JobStatus.valueOf(status)
+                : null;
+
+        return ResponseEntity.ok(jobService.getCompanyJobsWithDetails(companyId, title, jobStatus, pageable));
+    }
+
+    /*
+    [기업별 공고 목록 조회] - 커서(무한 스크롤) 방식, 첫 요청은 cursor 없이 호출
+     */
+    @GetMapping("/company/{companyId}/scroll")
+    public ResponseEntity<CursorPageResponseDto<JobSummary>> getCompanyJobsByCursor(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        JobStatus jobStatus = (status != null && !status.equals("ALL"))
+                ? JobStatus.valueOf(status)
+                : null;
+
+        return ResponseEntity.ok(jobService.getCompanyJobsByCursor(companyId, title, jobStatus, cursor, size));
+    }
+
     /*
     [전체 공개 공고 목록 조회] - 검색/필터링 포함
      */
     @GetMapping("/open")
-    public ResponseEntity<Page<JobResponseDto>> getOpenJobs(
+    public ResponseEntity<Page<JobSummary>> getOpenJobs(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String employmentType,
@@ -99,6 +243,32 @@ public class JobController {
         return ResponseEntity.ok(jobService.getOpenJobs(title, categoryId, employmentType, pageable));
     }
 
+    /*
+    [공개 공고 facet 건수 조회] - 필터 사이드바의 카테고리/고용형태별 공고 수 (같은 필터 파라미터 사용)
+     */
+    @GetMapping("/open/facets")
+    public ResponseEntity<JobFacetResponseDto> getOpenJobFacets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String employmentType) {
+
+        return ResponseEntity.ok(jobService.getOpenJobFacets(title, categoryId, employmentType));
+    }
+
+    /*
+    [전체 공개 공고 목록 조회] - 커서(무한 스크롤) 방식, 전체 건수(count) 조회 생략
+     */
+    @GetMapping("/open/scroll")
+    public ResponseEntity<CursorPageResponseDto<JobSummary>> getOpenJobsByCursor(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String employmentType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(jobService.getOpenJobsByCursor(title, categoryId, employmentType, cursor, size));
+    }
+
     /*
     [채용 공고 삭제]
      */
@@ -107,4 +277,13 @@ public class JobController {
         jobService.deleteJob(jobId);
         return ResponseEntity.ok().build();
     }
+
+    /*
+    [채용 공고 일괄 삭제] - 예: DELETE /api/jobs?ids=1,2,3
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, Integer>> deleteJobs(@RequestParam List<Long> ids) {
+        int deleted = cascadeDeleteService.deleteJobs(ids);
+        return ResponseEntity.ok(Map.of("requested", ids.size(), "deleted", deleted));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package min.boot.ats.control;
+
+import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.JobImportTracker;
+import min.boot.ats.service.JobImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채용 공고 일괄 등록(import) API (ADMIN, RECRUITER 전용)
+ */
+@RestController
+@RequestMapping("/api/jobs/imports")
+@RequiredArgsConstructor
+public class JobImportController {
+
+    private final JobImportService jobImportService;
+    private final JobImportTracker jobImportTracker;
+
+    /*
+    [공고 일괄 등록 - NDJSON] 한 줄에 공고 1건 (JobRequestDto 형식, companyId/categoryId 포함)
+     */
+    @PostMapping(value = "/user/{userId}", consumes = "application/x-ndjson")
+    public ResponseEntity<Map<String, Object>> importNdjson(@PathVariable Long userId, InputStream body) {
+        return ResponseEntity.ok(jobImportService.importJobs(userId, JobImportService.FORMAT_NDJSON, body));
+    }
+
+    /*
+    [공고 일괄 등록 - CSV] 첫 행은 헤더 (companyId, categoryId, title, content, location, employmentType, salaryRange, deadline, steps)
+     */
+    @PostMapping(value = "/user/{userId}", consumes = "text/csv")
+    public ResponseEntity<Map<String, Object>> importCsv(@PathVariable Long userId, InputStream body) {
+        return ResponseEntity.ok(jobImportService.importJobs(userId, JobImportService.FORMAT_CSV, body));
+    }
+
+    /*
+    [일괄 등록 작업 목록] - 진행 중인 작업과 최근 종료된 작업
+     */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getImports() {
+        return ResponseEntity.ok(jobImportTracker.list());
+    }
+
+    /*
+    [일괄 등록 진행 상황 조회] - 진행률 및 행 오류
+     */
+    @GetMapping("/{importId}")
+    public ResponseEntity<Map<String, Object>> getImport(@PathVariable String importId) {
+        JobImportTracker.Progress progress = jobImportTracker.get(importId);
+        if (progress == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(progress.toMap(true));
+    }
+}
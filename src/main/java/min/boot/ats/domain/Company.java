@@ -13,12 +13,20 @@ import java.util.List;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+    @SequenceGenerator(name = "companies_seq", sequenceName = "companies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
     private String name;
 
+    /**
+     * 낙관적 락 버전 (수정 시마다 증가) - 공고 상세 ETag에 포함 (상세에 기업명이 들어가므로)
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 양방향 연관 관계: 회사에 속한 사용자들
     @OneToMany(mappedBy = "company", cascade = CascadeType.ALL)
     private List<User> users = new ArrayList<>();
@@ -20,7 +20,8 @@ import java.util.Set;
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -61,10 +62,19 @@ public class Job {
     @Column(length = 20, nullable = false)
     private JobStatus status = JobStatus.DRAFT;
 
+    /**
+     * 낙관적 락 버전 (수정 시마다 증가) - 상세 조회 ETag 생성에 사용
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("stepOrder ASC, id ASC")
     private Set<JobStep> steps = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("displayOrder ASC, id ASC")
     private Set<JobQuestion> questions = new LinkedHashSet<>();
 
     // --- 생성자 레벨 빌더 ---
@@ -130,6 +140,14 @@ public class Job {
         this.deadline = deadline;
     }
 
+    public void removeStep(JobStep step) {
+        this.steps.remove(step); // orphanRemoval → 해당 행만 DELETE
+    }
+
+    public void removeQuestion(JobQuestion question) {
+        this.questions.remove(question);
+    }
+
     public void clearSteps() {
         this.steps.clear();
     }
@@ -13,7 +13,8 @@ import java.util.List;
 public class JobCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_categories_seq")
+    @SequenceGenerator(name = "job_categories_seq", sequenceName = "job_categories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -22,6 +23,13 @@ public class JobCategory {
     @Column(name = "display_order", nullable = false)
     private Integer displayOrder;
 
+    /**
+     * 낙관적 락 버전 (수정 시마다 증가) - 카테고리 목록 ETag 생성에 사용
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id") // DDL: parent_id NUMBER(10), FK
     private JobCategory parent;
@@ -0,0 +1,22 @@
+package min.boot.ats.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 카테고리 계층 closure table (조상 → 모든 자손, 자기 자신 포함 depth 0)
+ * 하위 카테고리 전체 검색을 재귀 쿼리 없이 (ancestor_id, descendant_id) 인덱스 조인 한 번으로 처리하기 위해 사용합니다.
+ * 행은 CategoryService가 카테고리 등록/부모 변경/삭제 시 JobCategoryClosureRepository로 직접 갱신합니다.
+ */
+@Entity
+@Table(name = "job_category_closure")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCategoryClosure {
+
+    @EmbeddedId
+    private JobCategoryClosureId id;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -11,7 +11,8 @@ import lombok.*;
 public class JobQuestion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_questions_seq")
+    @SequenceGenerator(name = "job_questions_seq", sequenceName = "job_questions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,9 @@ package min.boot.ats.domain;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Getter
 @RequiredArgsConstructor
 public enum JobStatus {
@@ -10,4 +13,17 @@ public enum JobStatus {
     OPEN("공개"),
     CLOSED("마감");
     private final String description;
-}
\ No newline at end of file
+
+    /**
+     * 일괄 상태 변경 시 이 상태로 바꿀 수 있는 이전 상태
+     * - OPEN: 임시 저장 공고 게시, 마감 공고 재게시 (마감일이 지나지 않은 경우만)
+     * - CLOSED: 공개 공고 마감
+     * - DRAFT: 공개 공고 게시 취소
+     */
+    public Set<JobStatus> transitionSources() {
+        return switch (this) {
+            case OPEN -> EnumSet.of(DRAFT, CLOSED);
+            case CLOSED, DRAFT -> EnumSet.of(OPEN);
+        };
+    }
+}
@@ -11,7 +11,8 @@ import lombok.*;
 public class JobStep {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_steps_seq")
+    @SequenceGenerator(name = "job_steps_seq", sequenceName = "job_steps_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -29,7 +30,7 @@ public class JobStep {
     private String stepName;
 
     /**
-     * DDL: step_order NUMBER(3) NOT NULL
+     * DDL: step_order NUMBER(10) NOT NULL (간격을 둔 정렬값, db/004)
      */
     @Column(name = "step_order", nullable = false)
     private Integer stepOrder;
@@ -0,0 +1,31 @@
+package min.boot.ats.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리더 잠금 (lease 방식)
+ * 여러 노드 중 locked_until이 지나지 않은 owner 한 곳만 스케줄 작업을 실행합니다.
+ * 획득/갱신/반납은 SchedulerLockRepository의 조건부 UPDATE로만 수행합니다. (시각은 DB 시계 기준)
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
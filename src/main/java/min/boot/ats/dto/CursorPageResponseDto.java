@@ -0,0 +1,20 @@
+package min.boot.ats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * 전체 건수(count) 없이 다음 페이지 존재 여부와 다음 요청에 사용할 커서만 내려줍니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // hasNext가 false이면 null
+}
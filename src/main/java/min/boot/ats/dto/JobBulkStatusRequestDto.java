@@ -0,0 +1,26 @@
+package min.boot.ats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import min.boot.ats.domain.JobStatus;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 변경 요청
+ * jobIds를 지정하거나, jobIds 없이 기업 + 필터(status, title)로 대상을 지정합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBulkStatusRequestDto {
+
+    private JobStatus targetStatus;  // 변경할 상태
+    private List<Long> jobIds;       // 대상 공고 ID 목록
+
+    // --- jobIds가 없을 때 사용하는 필터 ---
+    private Long companyId;          // 필수
+    private JobStatus status;        // 현재 상태 (null이면 전체)
+    private String title;            // 제목 검색어
+}
@@ -0,0 +1,37 @@
+package min.boot.ats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import min.boot.ats.domain.JobStatus;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 변경 결과 (공고별 결과 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class JobBulkStatusResponseDto {
+
+    public enum Outcome {
+        UPDATED,             // 변경됨
+        ALREADY_IN_STATUS,   // 이미 요청한 상태
+        INVALID_TRANSITION,  // 허용되지 않는 상태 전이 (JobStatus.transitionSources)
+        DEADLINE_PASSED,     // 마감일이 지나 공개할 수 없음
+        CONFLICT,            // 처리 중 다른 요청이 상태를 변경함
+        NOT_FOUND            // 없는 공고
+    }
+
+    private JobStatus targetStatus;
+    private int requested;
+    private int updated;
+    private List<Result> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private Long jobId;
+        private Outcome outcome;
+        private JobStatus previousStatus; // 없는 공고면 null
+    }
+}
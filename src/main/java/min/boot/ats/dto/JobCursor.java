@@ -0,0 +1,57 @@
+package min.boot.ats.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 무한 스크롤(Keyset) 페이징용 커서
+ * 마지막으로 내려준 공고의 (createdAt, id)를 Base64 문자열로 감싸 클라이언트에 전달합니다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청에 그대로 돌려주기만 하면 됩니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static JobCursor from(JobSummary job) {
+        return new JobCursor(job.getCreatedAt(), job.getId());
+    }
+
+    public static JobCursor of(LocalDateTime createdAt, Long id) {
+        return new JobCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지로 간주하여 null 반환)
+     */
+    public static JobCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new JobCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package min.boot.ats.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobElementMoveRequestDto {
+
+    private Long afterId; // 이 항목 바로 뒤로 이동 (null이면 맨 앞)
+}
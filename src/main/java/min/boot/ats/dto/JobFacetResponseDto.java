@@ -0,0 +1,18 @@
+package min.boot.ats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 공개 공고 필터 사이드바용 facet 건수
+ */
+@Getter
+@AllArgsConstructor
+public class JobFacetResponseDto {
+
+    private long total;                         // 현재 필터 전체 조건에 맞는 공고 수
+    private Map<Long, Long> categories;         // 카테고리 ID → 공고 수 (하위 카테고리 합산)
+    private Map<String, Long> employmentTypes;  // 고용형태 → 공고 수
+}
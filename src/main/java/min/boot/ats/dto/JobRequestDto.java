@@ -25,17 +25,19 @@ public class JobRequestDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class StepRequestDto {
+        private Long id;       // 수정 시 기존 단계 ID (없으면 새 단계로 추가)
         private String name;
-        private Integer order; // step_order 매핑
+        private Integer order; // 참고용 (정렬값은 목록 순서대로 서버가 간격을 두고 매김)
     }
 
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
     public static class QuestionRequestDto {
+        private Long id;       // 수정 시 기존 문항 ID (없으면 새 문항으로 추가)
         private String text;
         private QuestionType type; // Enum (TEXT, MULTIPLE_CHOICE 등)
         private String isRequired; // 'Y' 또는 'N'
-        private Integer order; // display_order 매핑
+        private Integer order; // 참고용 (정렬값은 목록 순서대로 서버가 간격을 두고 매김)
     }
 }
\ No newline at end of file
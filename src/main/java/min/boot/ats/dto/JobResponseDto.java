@@ -1,5 +1,6 @@
 package min.boot.ats.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import min.boot.ats.domain.Job;
@@ -22,7 +23,11 @@ public class JobResponseDto {
     private String location;      // 회사 주소 또는 공고 지역
     private String employmentType; // 채용 형태 (정규직, 계약직, 인턴 등)
     private String salaryRange;
-
+    private Long version; // ETag 생성용
+    @JsonIgnore
+    private Long companyVersion; // ETag 생성용 (기업명 변경 반영)
+    @JsonIgnore
+    private Long categoryVersion; // ETag 생성용 (카테고리명 변경 반영)
 
     private List<StepResponseDto> steps;
     private List<QuestionResponseDto> questions;
@@ -37,16 +42,19 @@ public class JobResponseDto {
         this.location = job.getLocation();
         this.employmentType = job.getEmploymentType();
         this.salaryRange = job.getSalaryRange();
+        this.version = job.getVersion();
 
         // 기업명 매핑 (Company 엔티티의 name 필드)
         if (job.getCompany() != null) {
             this.companyId = job.getCompany().getId();
             this.companyName = job.getCompany().getName();
+            this.companyVersion = job.getCompany().getVersion();
         }
 
         // 카테고리명 매핑 (JobCategory 엔티티의 name 필드)
         if (job.getCategory() != null) {
             this.categoryName = job.getCategory().getName();
+            this.categoryVersion = job.getCategory().getVersion();
         }
 
         // SQL로 넣은 필드들을 엔티티에서 가져와서 매핑
@@ -55,11 +63,12 @@ public class JobResponseDto {
 
         // 전형 단계 및 문항
         this.steps = job.getSteps().stream()
-                .map(step -> new StepResponseDto(step.getStepName(), step.getStepOrder()))
+                .map(step -> new StepResponseDto(step.getId(), step.getStepName(), step.getStepOrder()))
                 .collect(Collectors.toList());
 
         this.questions = job.getQuestions().stream()
                 .map(q -> new QuestionResponseDto(
+                        q.getId(),
                         q.getQuestionText(),
                         q.getQuestionType().name(),
                         q.getIsRequired(),
@@ -70,16 +79,18 @@ public class JobResponseDto {
     @Getter
     @AllArgsConstructor
     public static class StepResponseDto {
+        private Long id;       // 순서 변경/이동 요청용
         private String name;
-        private Integer order;
+        private Integer order; // 정렬값 (간격을 둔 값이므로 순서 비교에만 사용)
     }
 
     @Getter
     @AllArgsConstructor
     public static class QuestionResponseDto {
+        private Long id;       // 순서 변경/이동 요청용
         private String text;
         private String type;
         private String isRequired;
-        private Integer order;
+        private Integer order; // 정렬값 (간격을 둔 값이므로 순서 비교에만 사용)
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package min.boot.ats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import min.boot.ats.domain.JobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공고 목록용 요약 정보 (QueryDSL에서 필요한 컬럼만 직접 조회)
+ * 목록 화면에서 쓰지 않는 본문(CLOB)과 전형 단계/문항은 포함하지 않습니다.
+ * 전체 정보는 상세 조회(JobResponseDto)에서만 제공합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class JobSummary {
+
+    private Long id;
+    private String title;
+    private Long companyId;
+    private String companyName;
+    private Long categoryId;
+    private String categoryName;
+    private String location;
+    private String employmentType;
+    private LocalDateTime createdAt;
+    private LocalDateTime deadline;
+    private JobStatus status;
+}
@@ -0,0 +1,8 @@
+package min.boot.ats.dto;
+
+/**
+ * 공고 상세 ETag 구성 버전 (공고 / 기업 / 카테고리)
+ * 상세 응답에 기업명·카테고리명이 포함되므로, 공고가 그대로여도 기업명/카테고리명이 바뀌면 ETag가 달라져야 합니다.
+ */
+public record JobVersions(Long jobVersion, Long companyVersion, Long categoryVersion) {
+}
@@ -0,0 +1,15 @@
+package min.boot.ats.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직무 카테고리 변경 이벤트
+ * CategoryService의 등록/수정/삭제 후 발행되며, 계층 구조를 메모리에 보관하는 컴포넌트가 커밋 이후 갱신합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+}
@@ -0,0 +1,15 @@
+package min.boot.ats.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기업 정보 변경 이벤트
+ * CompanyService의 기업명 수정 후 발행되며, 공고와 함께 기업명을 보관하는 스냅샷/캐시가 커밋 이후 갱신합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CompanyChangedEvent {
+
+    private final Long companyId;
+}
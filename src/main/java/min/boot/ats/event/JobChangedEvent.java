@@ -0,0 +1,57 @@
+package min.boot.ats.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import min.boot.ats.domain.JobStatus;
+
+import java.util.List;
+
+/**
+ * 채용 공고 변경 이벤트
+ * JobService의 쓰기 작업(등록/수정/순서 변경/상태 변경/삭제) 후 발행되며,
+ * 검색 색인 등 메모리 구조는 트랜잭션 커밋 이후(@TransactionalEventListener) 이 이벤트로 동기화합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, REORDERED, STATUS_CHANGED, DELETED
+    }
+
+    private final Type type;
+    private final List<Long> jobIds;
+    private final JobStatus status; // STATUS_CHANGED일 때만 사용 (변경 후 상태)
+
+    public static JobChangedEvent created(Long jobId) {
+        return new JobChangedEvent(Type.CREATED, List.of(jobId), null);
+    }
+
+    // 일괄 등록(import) 청크 단위
+    public static JobChangedEvent created(List<Long> jobIds) {
+        return new JobChangedEvent(Type.CREATED, List.copyOf(jobIds), null);
+    }
+
+    public static JobChangedEvent updated(Long jobId) {
+        return new JobChangedEvent(Type.UPDATED, List.of(jobId), null);
+    }
+
+    // 전형 단계/문항 순서만 변경 (목록/검색 정보는 그대로)
+    public static JobChangedEvent reordered(Long jobId) {
+        return new JobChangedEvent(Type.REORDERED, List.of(jobId), null);
+    }
+
+    public static JobChangedEvent statusChanged(List<Long> jobIds, JobStatus status) {
+        return new JobChangedEvent(Type.STATUS_CHANGED, List.copyOf(jobIds), status);
+    }
+
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(Type.DELETED, List.of(jobId), null);
+    }
+
+    // 일괄/기업 단위 삭제 청크
+    public static JobChangedEvent deleted(List<Long> jobIds) {
+        return new JobChangedEvent(Type.DELETED, List.copyOf(jobIds), null);
+    }
+}
@@ -0,0 +1,15 @@
+package min.boot.ats.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄 작업 리더 획득 이벤트
+ * 이 노드가 새로 리더가 되었을 때 발행되며, 리더만 처리하는 작업의 메모리 상태를 다시 적재하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LeadershipAcquiredEvent {
+
+    private final String owner;
+}
@@ -2,6 +2,7 @@ package min.boot.ats.repo;
 
 import min.boot.ats.domain.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +24,9 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     @Query("select c from Company c left join fetch c.users where c.id = :id")
     Optional<Company> findByIdWithUsers(@Param("id") Long id);
 
-}
\ No newline at end of file
+    // 엔티티 로딩 없이 삭제 (소속 공고/사용자를 먼저 삭제한 뒤 호출)
+    @Modifying
+    @Query("DELETE FROM Company c WHERE c.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+}
@@ -0,0 +1,56 @@
+package min.boot.ats.repo;
+
+import min.boot.ats.domain.JobCategoryClosure;
+import min.boot.ats.domain.JobCategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 카테고리 closure table 갱신용 (집합 단위 INSERT ... SELECT / DELETE)
+ */
+@Repository
+public interface JobCategoryClosureRepository extends JpaRepository<JobCategoryClosure, JobCategoryClosureId> {
+
+    // 신규 카테고리: 자기 자신 행 (depth 0)
+    @Modifying
+    @Query(value = "INSERT INTO job_category_closure (ancestor_id, descendant_id, depth) " +
+            "VALUES (:categoryId, :categoryId, 0)", nativeQuery = true)
+    void insertSelf(@Param("categoryId") Long categoryId);
+
+    // 신규 카테고리: 부모의 모든 조상(부모 자신 포함)을 조상으로 연결
+    @Modifying
+    @Query(value = "INSERT INTO job_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :categoryId, depth + 1 FROM job_category_closure " +
+            "WHERE descendant_id = :parentId", nativeQuery = true)
+    void insertUnderParent(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    // 부모 변경 1단계: 서브트리 전체와 기존 조상(서브트리 바깥) 사이의 연결 제거
+    @Modifying
+    @Query(value = "DELETE FROM job_category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM job_category_closure WHERE ancestor_id = :categoryId) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM job_category_closure " +
+            "WHERE descendant_id = :categoryId AND ancestor_id <> :categoryId)", nativeQuery = true)
+    void detachSubtree(@Param("categoryId") Long categoryId);
+
+    // 부모 변경 2단계: 새 부모의 조상들 x 서브트리 전체 연결
+    @Modifying
+    @Query(value = "INSERT INTO job_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+            "FROM job_category_closure a, job_category_closure d " +
+            "WHERE a.descendant_id = :parentId AND d.ancestor_id = :categoryId", nativeQuery = true)
+    void attachSubtree(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    // 카테고리 삭제: 해당 카테고리가 조상 또는 자손인 행 제거
+    @Modifying
+    @Query(value = "DELETE FROM job_category_closure " +
+            "WHERE ancestor_id = :categoryId OR descendant_id = :categoryId", nativeQuery = true)
+    void deleteAllByCategoryId(@Param("categoryId") Long categoryId);
+
+    // ancestorId가 descendantId의 조상(또는 자기 자신)인지 여부 - 순환 참조 방지용
+    @Query("select count(c) > 0 from JobCategoryClosure c " +
+            "where c.id.ancestorId = :ancestorId and c.id.descendantId = :descendantId")
+    boolean existsPath(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+}
@@ -10,12 +10,15 @@ import java.util.List;
 @Repository
 public interface JobCategoryRepository extends JpaRepository<JobCategory, Long> {
     /**
-     * 카테고리 목록 조회 시 하위 카테고리(children)까지 한 번에 조회 (Fetch Join)
-     * 계층형 구조에서 N+1 문제를 방지하기 위한 최적화 쿼리입니다.
+     * 전체 카테고리 트리 구성용 (id, name, displayOrder, parentId, version) 목록
+     * 엔티티/연관관계 로딩 없이 한 번의 쿼리로 전체 테이블을 읽고, 트리는 메모리에서 조립합니다.
      */
-    @Query("select distinct jc from JobCategory jc " +
-            "left join fetch jc.children " +
-            "where jc.parent is null " +
-            "order by jc.displayOrder asc")
-    List<JobCategory> findAllWithChildren();
+    @Query("select jc.id, jc.name, jc.displayOrder, p.id, jc.version " +
+            "from JobCategory jc left join jc.parent p " +
+            "order by jc.displayOrder asc, jc.id asc")
+    List<Object[]> findAllForTree();
+
+    // 계층 구조(자식 → 부모) 매핑용 (id, parentId) 목록
+    @Query("select jc.id, p.id from JobCategory jc left join jc.parent p")
+    List<Object[]> findAllIdAndParentId();
 }
\ No newline at end of file
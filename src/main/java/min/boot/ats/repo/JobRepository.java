@@ -1,17 +1,21 @@
 package min.boot.ats.repo;
 
+import jakarta.persistence.LockModeType;
 import min.boot.ats.domain.Job;
 import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.JobVersions;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,19 +24,70 @@ public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCu
 
     List<Job> findByCreatedById(Long userId);
 
-    @Modifying(clearAutomatically = true) // 연산 후 1차 캐시 비우기
-    @Query("UPDATE Job j SET j.status = :targetStatus " +
-            "WHERE j.status = :currentStatus AND j.deadline < :now")
-    int updateStatusForExpiredJobs(
-            @Param("targetStatus") JobStatus targetStatus,
+    // 마감 처리 대상 공고 ID (청크 단위 마감용, pageable로 한 번에 처리할 건수 제한)
+    @Query("SELECT j.id FROM Job j WHERE j.status = :currentStatus AND j.deadline < :now ORDER BY j.id")
+    List<Long> findIdsForExpiredJobs(
+            @Param("currentStatus") JobStatus currentStatus,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 지정한 공고 중 마감 처리 대상 ID (마감 타이머용)
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids AND j.status = :currentStatus AND j.deadline < :now")
+    List<Long> findIdsForExpiredJobsIn(
+            @Param("ids") Collection<Long> ids,
             @Param("currentStatus") JobStatus currentStatus,
             @Param("now") LocalDateTime now
     );
 
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :targetStatus, j.version = j.version + 1 " +
+            "WHERE j.id IN :ids AND j.status = :currentStatus")
+    int updateStatusByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("targetStatus") JobStatus targetStatus,
+            @Param("currentStatus") JobStatus currentStatus
+    );
+
     @EntityGraph(attributePaths = {"company", "category"})
     Page<Job> findByStatus(JobStatus status, Pageable pageable);
 
     @Query("SELECT j FROM Job j LEFT JOIN FETCH j.category WHERE j.id = :id")
     Optional<Job> findByIdWithDetails(@Param("id") Long id);
 
-}
\ No newline at end of file
+    // ETag 비교용 버전만 조회 (상세 DTO 생성 없이 304 응답 판단)
+    // 상세에 기업명/카테고리명이 포함되므로 기업/카테고리 버전도 함께 조회
+    @Query("SELECT new min.boot.ats.dto.JobVersions(j.version, c.version, k.version) "
+            + "FROM Job j JOIN j.company c JOIN j.category k WHERE j.id = :id")
+    Optional<JobVersions> findVersionsById(@Param("id") Long id);
+
+    /**
+     * 전형 단계/문항만 바뀌는 경우에도 공고 버전(ETag)이 증가하도록 강제 증가 락으로 조회
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.category WHERE j.id = :id")
+    Optional<Job> findByIdForUpdate(@Param("id") Long id);
+
+    // --- 집합 기반 삭제 (엔티티 로딩 없음, 전형 단계 → 문항 → 공고 순으로 호출) ---
+
+    @Modifying
+    @Query("DELETE FROM JobStep s WHERE s.job.id IN :jobIds")
+    int deleteStepsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query("DELETE FROM JobQuestion q WHERE q.job.id IN :jobIds")
+    int deleteQuestionsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query("DELETE FROM Job j WHERE j.id IN :jobIds")
+    int deleteAllRowsByIds(@Param("jobIds") Collection<Long> jobIds);
+
+    // 기업의 공고 ID (청크 단위 삭제용, pageable로 한 번에 처리할 건수 제한)
+    @Query("SELECT j.id FROM Job j WHERE j.company.id = :companyId ORDER BY j.id")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    // 기업 소속 사용자가 다른 기업의 공고 작성자로 남아 있는지 (기업 삭제 전 확인)
+    @Query("SELECT COUNT(j) > 0 FROM Job j WHERE j.createdBy.company.id = :companyId AND j.company.id <> :companyId")
+    boolean existsCreatedByCompanyUsersInOtherCompanies(@Param("companyId") Long companyId);
+
+}
@@ -2,13 +2,71 @@ package min.boot.ats.repo;
 
 import min.boot.ats.domain.Job;
 import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.JobCursor;
+import min.boot.ats.dto.JobSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
 public interface JobRepositoryCustom {
     // 구직자용 공개 공고 검색
-    Page<Job> findByFilters(JobStatus status, String title, Long categoryId, String employmentType, Pageable pageable);
+    Page<JobSummary> findByFilters(JobStatus status, String title, Long categoryId, String employmentType, Pageable pageable);
+
+    // 구직자용 공개 공고 검색 결과 전체 건수 (목록 캐시의 count 캐시 적재용)
+    long countByFilters(JobStatus status, String title, Long categoryId, String employmentType);
+
+    // 검색어와 일치하는 공고 ID 전체 (facet 집계용, 후보를 자르면 건수가 틀어지므로 제한 없음)
+    List<Long> findIdsByTitle(JobStatus status, String title);
 
     // 기업 관리자용 공고 검색 (내 기업의 공고만 + 상태/제목 필터링)
-    Page<Job> findAllByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable);
-}
\ No newline at end of file
+    Page<JobSummary> findAllByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable);
+
+    // 기업 관리자 대시보드용 공고 검색 (전형 단계/문항 포함, ID 페이징 후 일괄 로딩)
+    Page<Job> findAllWithDetailsByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable);
+
+    // 구직자용 공개 공고 검색 - 커서(Keyset) 방식, count 쿼리 없음 (cursor가 null이면 첫 페이지)
+    List<JobSummary> findByFiltersAfter(JobStatus status, String title, Long categoryId, String employmentType,
+                                 JobCursor cursor, int limit);
+
+    // 기업 관리자용 공고 검색 - 커서(Keyset) 방식
+    List<JobSummary> findAllByCompanyIdAndFiltersAfter(Long companyId, JobStatus status, String title,
+                                                JobCursor cursor, int limit);
+
+    // 상태별 요약 일괄 조회 - ID 오름차순 Keyset (공개 공고 스냅샷 적재용, lastId가 null이면 처음부터)
+    List<JobSummary> findSummariesByStatusAfterId(JobStatus status, Long lastId, int limit);
+
+    // 지정한 공고 중 해당 상태인 공고의 요약 (공개 공고 스냅샷 변경분 반영용)
+    List<JobSummary> findSummariesByIds(Collection<Long> ids, JobStatus status);
+
+    // 공고의 전형 단계 ID → 정렬값 (정렬값 순, 엔티티 로딩 없음)
+    Map<Long, Integer> findStepOrders(Long jobId);
+
+    // 공고의 문항 ID → 정렬값 (정렬값 순, 엔티티 로딩 없음)
+    Map<Long, Integer> findQuestionOrders(Long jobId);
+
+    // 전형 단계 정렬값 일괄 변경 (CASE UPDATE 한 번)
+    long updateStepOrders(Long jobId, Map<Long, Integer> orders);
+
+    // 문항 정렬값 일괄 변경 (CASE UPDATE 한 번)
+    long updateQuestionOrders(Long jobId, Map<Long, Integer> orders);
+
+    // 기업 관리자용 공고 ID 검색 (일괄 상태 변경 대상, ID 오름차순 최대 limit건)
+    List<Long> findIdsByCompanyIdAndFilters(Long companyId, JobStatus status, String title, int limit);
+
+    // 공고 ID → 현재 상태 (없는 공고는 제외)
+    Map<Long, JobStatus> findStatusesByIds(Collection<Long> ids);
+
+    // 지정한 공고 중 targetStatus로 변경 가능한 공고 ID (전이 규칙 + 마감일 조건)
+    List<Long> findIdsForStatusChange(Collection<Long> ids, JobStatus targetStatus, LocalDateTime now);
+
+    // 지정한 공고 중 변경 가능한 공고만 상태 변경 (조건부 UPDATE 한 번, 버전 증가)
+    long updateStatusForChange(Collection<Long> ids, JobStatus targetStatus, LocalDateTime now);
+
+    // 기업 관리자용 공고 요약 스트리밍 (내보내기용, ID 오름차순, 호출 측에서 반드시 close)
+    Stream<JobSummary> streamByCompanyIdAndFilters(Long companyId, JobStatus status, String title, int fetchSize);
+}
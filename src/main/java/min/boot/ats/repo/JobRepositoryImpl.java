@@ -1,36 +1,78 @@
 package min.boot.ats.repo;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseForEqBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.JobSearchIndex;
 import min.boot.ats.domain.Job;
 import min.boot.ats.domain.JobStatus;
+import min.boot.ats.domain.QCompany;
 import min.boot.ats.domain.QJob;
+import min.boot.ats.domain.QJobCategory;
+import min.boot.ats.domain.QJobCategoryClosure;
+import min.boot.ats.domain.QJobQuestion;
+import min.boot.ats.domain.QJobStep;
+import min.boot.ats.dto.JobCursor;
+import min.boot.ats.dto.JobSummary;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 public class JobRepositoryImpl implements JobRepositoryCustom {
 
+    // 검색 색인 후보 ID를 IN 조건으로 나눠 보낼 때의 최대 개수 (Oracle IN 목록 한도)
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    // 목록 정렬 순서 (createdAt desc, id desc)
+    private static final Comparator<JobSummary> LIST_ORDER = Comparator
+            .comparing(JobSummary::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(JobSummary::getId)
+            .reversed();
+
     private final JPAQueryFactory queryFactory;
+    private final JobSearchIndex searchIndex;
 
     @Override
-    public Page<Job> findByFilters(JobStatus status, String title, Long categoryId, String employmentType, Pageable pageable) {
+    public Page<JobSummary> findByFilters(JobStatus status, String title, Long categoryId, String employmentType, Pageable pageable) {
         QJob job = QJob.job; // QClass 활용
 
-        List<Job> content = queryFactory
-                .selectFrom(job)
+        if (useSearchIndex(status, title)) {
+            return findByIndexedTitle(status, title, categoryId, employmentType, pageable);
+        }
+
+        List<JobSummary> content = selectSummary()
                 .where(
                         job.status.eq(status),
                         titleContains(title),
-                        categoryEq(categoryId),
+                        categoryWithin(categoryId),
                         employmentTypeEq(employmentType)
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(job.createdAt.desc())
+                .orderBy(job.createdAt.desc(), job.id.desc())
                 .fetch();
 
         JPAQuery<Long> countQuery = queryFactory
@@ -39,7 +81,7 @@ public class JobRepositoryImpl implements JobRepositoryCustom {
                 .where(
                         job.status.eq(status),
                         titleContains(title),
-                        categoryEq(categoryId),
+                        categoryWithin(categoryId),
                         employmentTypeEq(employmentType)
                 );
 
@@ -47,24 +89,16 @@ public class JobRepositoryImpl implements JobRepositoryCustom {
     }
 
     @Override
-    public Page<Job> findAllByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable) {
+    public Page<JobSummary> findAllByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable) {
         QJob job = QJob.job;
 
-        // 동적 조건 생성
-        BooleanExpression predicate = job.company.id.eq(companyId)
-                .and(titleContains(title));
+        BooleanExpression predicate = companyFilters(companyId, status, title);
 
-        // 상태 필터가 'ALL'(Null)이 아니면 조건 추가
-        if (status != null) {
-            predicate = predicate.and(job.status.eq(status));
-        }
-
-        List<Job> content = queryFactory
-                .selectFrom(job)
+        List<JobSummary> content = selectSummary()
                 .where(predicate)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(job.createdAt.desc()) // 최신순 정렬
+                .orderBy(job.createdAt.desc(), job.id.desc()) // 최신순 정렬 (동일 시각은 ID로 고정)
                 .fetch();
 
         JPAQuery<Long> countQuery = queryFactory
@@ -75,17 +109,479 @@ public class JobRepositoryImpl implements JobRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 2단계 조회 (ID 페이징 → 연관 엔티티 일괄 로딩)
+     * 컬렉션 fetch join과 페이징을 함께 쓰면 메모리 페이징이 발생하므로,
+     * 먼저 조건에 맞는 페이지의 ID만 조회한 뒤 해당 ID들을 fetch join으로 한 번에 채웁니다.
+     * 페이지 크기와 관계없이 쿼리 수가 고정됩니다. (ID 1 + count 1 + 로딩 2)
+     */
+    @Override
+    public Page<Job> findAllWithDetailsByCompanyIdAndFilters(Long companyId, JobStatus status, String title, Pageable pageable) {
+        QJob job = QJob.job;
+
+        BooleanExpression predicate = companyFilters(companyId, status, title);
+
+        List<Long> ids = queryFactory
+                .select(job.id)
+                .from(job)
+                .where(predicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(job.createdAt.desc(), job.id.desc())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(job.count())
+                .from(job)
+                .where(predicate);
+
+        return PageableExecutionUtils.getPage(findAllWithDetailsInOrder(ids), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * ID 목록의 공고를 기업/카테고리/전형 단계/문항까지 채워 ID 순서대로 반환합니다.
+     * 두 컬렉션을 한 쿼리에서 fetch join하면 단계 x 문항 카테시안 곱이 생기므로 컬렉션별로 나누어 조회하고,
+     * 두 번째 조회 결과는 같은 영속성 컨텍스트의 엔티티에 합쳐집니다. (트랜잭션 안에서 호출해야 함)
+     */
+    private List<Job> findAllWithDetailsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QJob job = QJob.job;
+
+        List<Job> jobs = queryFactory
+                .selectFrom(job).distinct()
+                .join(job.company).fetchJoin()
+                .leftJoin(job.category).fetchJoin()
+                .leftJoin(job.steps).fetchJoin()
+                .where(job.id.in(ids))
+                .fetch();
+
+        queryFactory
+                .selectFrom(job).distinct()
+                .leftJoin(job.questions).fetchJoin()
+                .where(job.id.in(ids))
+                .fetch();
+
+        Map<Long, Job> byId = jobs.stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public long countByFilters(JobStatus status, String title, Long categoryId, String employmentType) {
+        QJob job = QJob.job;
+
+        if (useSearchIndex(status, title)) {
+            // 검색어 일치 공고 전체를 IN 목록 한도 단위로 나눠 건수 합산
+            long total = 0;
+            for (List<Long> chunk : chunks(searchIndex.searchAll(title))) {
+                Long count = queryFactory
+                        .select(job.count())
+                        .from(job)
+                        .where(
+                                job.id.in(chunk),
+                                job.status.eq(status),
+                                categoryWithin(categoryId),
+                                employmentTypeEq(employmentType)
+                        )
+                        .fetchOne();
+                total += count != null ? count : 0L;
+            }
+            return total;
+        }
+
+        Long count = queryFactory
+                .select(job.count())
+                .from(job)
+                .where(
+                        job.status.eq(status),
+                        titleContains(title),
+                        categoryWithin(categoryId),
+                        employmentTypeEq(employmentType)
+                )
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<Long> findIdsByTitle(JobStatus status, String title) {
+        if (useSearchIndex(status, title)) {
+            return searchIndex.searchAll(title);
+        }
+
+        QJob job = QJob.job;
+        return queryFactory
+                .select(job.id)
+                .from(job)
+                .where(job.status.eq(status), titleContains(title))
+                .fetch();
+    }
+
+    /**
+     * 검색어가 있는 경우: 색인에서 일치 공고 전체를 관련도 순으로 받고, 나머지 조건은 ID 기준으로 DB에서 거른 뒤
+     * 관련도 순서를 유지한 채 페이징합니다. (LIKE 전체 스캔 및 별도 count 쿼리 없음)
+     * 조건을 먼저 적용한 뒤 자르므로 관련도가 낮은 공고도 누락되지 않고 전체 건수도 정확합니다.
+     */
+    private Page<JobSummary> findByIndexedTitle(JobStatus status, String title, Long categoryId, String employmentType, Pageable pageable) {
+        QJob job = QJob.job;
+
+        List<Long> ranked = searchIndex.searchAll(title);
+        if (ranked.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Set<Long> matched = new HashSet<>();
+        for (List<Long> chunk : chunks(ranked)) {
+            matched.addAll(queryFactory
+                    .select(job.id)
+                    .from(job)
+                    .where(
+                            job.id.in(chunk),
+                            job.status.eq(status),
+                            categoryWithin(categoryId),
+                            employmentTypeEq(employmentType)
+                    )
+                    .fetch());
+        }
+        List<Long> ordered = ranked.stream().filter(matched::contains).toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(findAllInOrder(ordered.subList(from, to)), pageable, ordered.size());
+    }
+
+    // ID 목록 순서대로 요약 조회 (IN 조회는 순서를 보장하지 않으므로 메모리에서 재정렬)
+    private List<JobSummary> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QJob job = QJob.job;
+        Map<Long, JobSummary> byId = selectSummary()
+                .where(job.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(JobSummary::getId, Function.identity()));
+
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Keyset 페이징: OFFSET으로 앞 페이지를 읽고 버리는 대신
+     * (createdAt, id) 인덱스 위치에서 바로 이어 읽습니다. 깊은 페이지도 비용이 일정합니다.
+     */
+    @Override
+    public List<JobSummary> findByFiltersAfter(JobStatus status, String title, Long categoryId, String employmentType,
+                                        JobCursor cursor, int limit) {
+        QJob job = QJob.job;
+
+        // 검색어가 있으면 색인 일치 공고 전체로 제한 (정렬은 커서 기준인 최신순 유지)
+        // IN 목록 한도 단위로 나눠 각각 커서 다음 limit건을 읽고, 합친 뒤 다시 최신순으로 limit건을 자름
+        if (useSearchIndex(status, title)) {
+            List<JobSummary> rows = new ArrayList<>();
+            for (List<Long> chunk : chunks(searchIndex.searchAll(title))) {
+                rows.addAll(selectSummary()
+                        .where(
+                                job.id.in(chunk),
+                                job.status.eq(status),
+                                categoryWithin(categoryId),
+                                employmentTypeEq(employmentType),
+                                after(cursor)
+                        )
+                        .orderBy(job.createdAt.desc(), job.id.desc())
+                        .limit(limit)
+                        .fetch());
+            }
+            return rows.stream().sorted(LIST_ORDER).limit(limit).toList();
+        }
+
+        return selectSummary()
+                .where(
+                        job.status.eq(status),
+                        titleContains(title),
+                        categoryWithin(categoryId),
+                        employmentTypeEq(employmentType),
+                        after(cursor)
+                )
+                .orderBy(job.createdAt.desc(), job.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<JobSummary> findAllByCompanyIdAndFiltersAfter(Long companyId, JobStatus status, String title,
+                                                       JobCursor cursor, int limit) {
+        QJob job = QJob.job;
+
+        return selectSummary()
+                .where(
+                        companyFilters(companyId, status, title),
+                        after(cursor)
+                )
+                .orderBy(job.createdAt.desc(), job.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<JobSummary> findSummariesByStatusAfterId(JobStatus status, Long lastId, int limit) {
+        QJob job = QJob.job;
+
+        return selectSummary()
+                .where(
+                        job.status.eq(status),
+                        lastId != null ? job.id.gt(lastId) : null
+                )
+                .orderBy(job.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<JobSummary> findSummariesByIds(Collection<Long> ids, JobStatus status) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QJob job = QJob.job;
+
+        return selectSummary()
+                .where(job.id.in(ids), job.status.eq(status))
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Integer> findStepOrders(Long jobId) {
+        QJobStep step = QJobStep.jobStep;
+        Map<Long, Integer> orders = new LinkedHashMap<>();
+        queryFactory
+                .select(step.id, step.stepOrder)
+                .from(step)
+                .where(step.job.id.eq(jobId))
+                .orderBy(step.stepOrder.asc(), step.id.asc())
+                .fetch()
+                .forEach(row -> orders.put(row.get(step.id), row.get(step.stepOrder)));
+        return orders;
+    }
+
+    @Override
+    public Map<Long, Integer> findQuestionOrders(Long jobId) {
+        QJobQuestion question = QJobQuestion.jobQuestion;
+        Map<Long, Integer> orders = new LinkedHashMap<>();
+        queryFactory
+                .select(question.id, question.displayOrder)
+                .from(question)
+                .where(question.job.id.eq(jobId))
+                .orderBy(question.displayOrder.asc(), question.id.asc())
+                .fetch()
+                .forEach(row -> orders.put(row.get(question.id), row.get(question.displayOrder)));
+        return orders;
+    }
+
+    /**
+     * 변경할 행만 UPDATE ... SET step_order = CASE id WHEN ? THEN ? ... END 한 문장으로 처리
+     * (행마다 UPDATE를 보내지 않음, 영속성 컨텍스트를 거치지 않는 벌크 연산)
+     */
+    @Override
+    public long updateStepOrders(Long jobId, Map<Long, Integer> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        QJobStep step = QJobStep.jobStep;
+        return queryFactory
+                .update(step)
+                .set(step.stepOrder, orderCase(step.id, step.stepOrder, orders))
+                .where(step.job.id.eq(jobId), step.id.in(orders.keySet()))
+                .execute();
+    }
+
+    @Override
+    public long updateQuestionOrders(Long jobId, Map<Long, Integer> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        QJobQuestion question = QJobQuestion.jobQuestion;
+        return queryFactory
+                .update(question)
+                .set(question.displayOrder, orderCase(question.id, question.displayOrder, orders))
+                .where(question.job.id.eq(jobId), question.id.in(orders.keySet()))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findIdsByCompanyIdAndFilters(Long companyId, JobStatus status, String title, int limit) {
+        QJob job = QJob.job;
+        return queryFactory
+                .select(job.id)
+                .from(job)
+                .where(companyFilters(companyId, status, title))
+                .orderBy(job.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, JobStatus> findStatusesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        QJob job = QJob.job;
+        Map<Long, JobStatus> statuses = new LinkedHashMap<>();
+        queryFactory
+                .select(job.id, job.status)
+                .from(job)
+                .where(job.id.in(ids))
+                .fetch()
+                .forEach(row -> statuses.put(row.get(job.id), row.get(job.status)));
+        return statuses;
+    }
+
+    @Override
+    public List<Long> findIdsForStatusChange(Collection<Long> ids, JobStatus targetStatus, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QJob job = QJob.job;
+        return queryFactory
+                .select(job.id)
+                .from(job)
+                .where(job.id.in(ids), statusChangeAllowed(targetStatus, now))
+                .fetch();
+    }
+
+    /**
+     * UPDATE jobs SET status = ?, version = version + 1 WHERE id IN (...) AND (전이 규칙) 한 문장으로 처리
+     * 전이 규칙을 WHERE 조건으로 다시 확인하므로, 조회 이후 다른 요청이 상태를 바꾼 공고는 변경되지 않습니다.
+     */
+    @Override
+    public long updateStatusForChange(Collection<Long> ids, JobStatus targetStatus, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        QJob job = QJob.job;
+        return queryFactory
+                .update(job)
+                .set(job.status, targetStatus)
+                .set(job.version, job.version.add(1))
+                .where(job.id.in(ids), statusChangeAllowed(targetStatus, now))
+                .execute();
+    }
+
+    /**
+     * 전방향 커서(ScrollableResults 기반 Stream)로 한 행씩 읽음
+     * DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetchSize만큼씩 DB에서 가져옵니다.
+     */
+    @Override
+    public Stream<JobSummary> streamByCompanyIdAndFilters(Long companyId, JobStatus status, String title, int fetchSize) {
+        return selectSummary()
+                .where(companyFilters(companyId, status, title))
+                .orderBy(QJob.job.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 목록용 요약 프로젝션: 본문(CLOB)과 전형 단계/문항 없이 기업명/카테고리명까지 한 번의 조인으로 조회
+     */
+    private JPAQuery<JobSummary> selectSummary() {
+        QJob job = QJob.job;
+        QCompany company = QCompany.company;
+        QJobCategory category = QJobCategory.jobCategory;
+
+        return queryFactory
+                .select(Projections.constructor(JobSummary.class,
+                        job.id,
+                        job.title,
+                        company.id,
+                        company.name,
+                        category.id,
+                        category.name,
+                        job.location,
+                        job.employmentType,
+                        job.createdAt,
+                        job.deadline,
+                        job.status))
+                .from(job)
+                .join(job.company, company)
+                .leftJoin(job.category, category);
+    }
+
+    // CASE id WHEN ? THEN ? ... ELSE 현재값 END
+    private static NumberExpression<Integer> orderCase(NumberPath<Long> id, NumberPath<Integer> current,
+                                                       Map<Long, Integer> orders) {
+        CaseForEqBuilder<Long>.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : orders.entrySet()) {
+            cases = cases == null
+                    ? id.when(entry.getKey()).then(entry.getValue())
+                    : cases.when(entry.getKey()).then(entry.getValue());
+        }
+        return cases.otherwise(current);
+    }
+
+    // ID 목록을 IN 목록 한도 단위로 분할
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>((ids.size() + IN_CHUNK_SIZE - 1) / IN_CHUNK_SIZE);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    // 색인은 공개(OPEN) 공고만 보관하므로 OPEN 검색이면서 색인 준비가 끝난 경우에만 사용
+    private boolean useSearchIndex(JobStatus status, String title) {
+        return title != null && !title.isBlank() && status == JobStatus.OPEN && searchIndex.isReady();
+    }
+
+    // 기업 관리자용 공통 조건 (내 기업 공고 + 제목, 상태 필터가 'ALL'(Null)이 아니면 조건 추가)
+    private BooleanExpression companyFilters(Long companyId, JobStatus status, String title) {
+        BooleanExpression predicate = QJob.job.company.id.eq(companyId)
+                .and(titleContains(title));
+
+        if (status != null) {
+            predicate = predicate.and(QJob.job.status.eq(status));
+        }
+        return predicate;
+    }
+
+    // 상태 전이 규칙 (JobStatus.transitionSources), 공개 전환은 마감일이 지나지 않은 공고만
+    private BooleanExpression statusChangeAllowed(JobStatus targetStatus, LocalDateTime now) {
+        QJob job = QJob.job;
+        BooleanExpression predicate = job.status.in(targetStatus.transitionSources());
+        if (targetStatus == JobStatus.OPEN) {
+            predicate = predicate.and(job.deadline.isNull().or(job.deadline.goe(now)));
+        }
+        return predicate;
+    }
+
     // 동적 조건 메서드들 (Null일 경우 조건 무시)
     private BooleanExpression titleContains(String title) {
         // 검색어가 빈 문자열("")로 들어오는 경우도 무시하도록 처리
         return (title != null && !title.isBlank()) ? QJob.job.title.containsIgnoreCase(title) : null;
     }
 
-    private BooleanExpression categoryEq(Long categoryId) {
-        return categoryId != null ? QJob.job.category.id.eq(categoryId) : null;
+    // 선택한 카테고리 + 모든 하위 카테고리 (closure table 인덱스 조인 한 번, 재귀 쿼리 없음)
+    private BooleanExpression categoryWithin(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        QJobCategoryClosure closure = QJobCategoryClosure.jobCategoryClosure;
+        return QJob.job.category.id.in(JPAExpressions
+                .select(closure.id.descendantId)
+                .from(closure)
+                .where(closure.id.ancestorId.eq(categoryId)));
     }
 
     private BooleanExpression employmentTypeEq(String type) {
         return type != null ? QJob.job.employmentType.eq(type) : null;
     }
+
+    // 정렬 순서(createdAt desc, id desc) 기준으로 커서 다음 위치부터 조회
+    private BooleanExpression after(JobCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        QJob job = QJob.job;
+        return job.createdAt.lt(cursor.getCreatedAt())
+                .or(job.createdAt.eq(cursor.getCreatedAt()).and(job.id.lt(cursor.getId())));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package min.boot.ats.repo;
+
+import min.boot.ats.domain.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄 작업 리더 잠금 (각 메서드가 독립 트랜잭션, 노드 간 시계 차이를 피하려고 DB 시각 사용)
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료되었거나 내가 보유한 잠금이면 획득/연장 (1 = 성공)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+            "SET owner = :owner, locked_at = SYSTIMESTAMP, " +
+            "    locked_until = SYSTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND') " +
+            "WHERE name = :name AND (owner = :owner OR locked_until < SYSTIMESTAMP)", nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 잠금 행이 아직 없으면 생성하며 획득 (1 = 성공, 동시 생성 시 한쪽은 PK 위반)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_locks (name, owner, locked_at, locked_until) " +
+            "SELECT :name, :owner, SYSTIMESTAMP, SYSTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND') FROM dual " +
+            "WHERE NOT EXISTS (SELECT 1 FROM scheduler_locks WHERE name = :name)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 종료 시 반납 (다른 노드가 lease 만료를 기다리지 않도록)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks SET locked_until = SYSTIMESTAMP " +
+            "WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
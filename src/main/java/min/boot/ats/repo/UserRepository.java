@@ -2,6 +2,7 @@ package min.boot.ats.repo;
 
 import min.boot.ats.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -47,4 +48,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "where u.email = :email")
     Optional<User> findByEmailWithDetails(@Param("email") String email);
 
-}
\ No newline at end of file
+    // --- 기업 삭제용 집합 기반 삭제 (엔티티 로딩 없음, 권한 → 사용자 순으로 호출) ---
+
+    @Modifying
+    @Query("DELETE FROM UserRole ur WHERE ur.user.id IN (SELECT u.id FROM User u WHERE u.company.id = :companyId)")
+    int deleteUserRolesByCompanyId(@Param("companyId") Long companyId);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.company.id = :companyId")
+    int deleteAllRowsByCompanyId(@Param("companyId") Long companyId);
+
+}
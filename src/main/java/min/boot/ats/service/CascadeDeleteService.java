@@ -0,0 +1,72 @@
+package min.boot.ats.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.repo.CompanyRepository;
+import min.boot.ats.repo.JobRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 공고/기업 일괄 삭제
+ * 엔티티를 로딩하지 않고 자식 → 부모 순의 집합 DELETE(WHERE job_id IN ...)로 삭제하며,
+ * CHUNK_SIZE 공고마다 별도 트랜잭션으로 나누어 행 잠금을 짧게 유지합니다.
+ *
+ * 청크 단위로 커밋되므로 도중에 실패하면 앞선 청크는 삭제된 상태로 남고, 같은 요청을 다시 실행하면 이어서 삭제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CascadeDeleteService {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final JobService jobService;
+    private final CompanyService companyService;
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+
+    /**
+     * [공고 일괄 삭제]
+     *
+     * @return 실제로 삭제된 공고 수 (없는 공고는 제외)
+     */
+    public int deleteJobs(List<Long> jobIds) {
+        List<Long> ids = jobIds.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            deleted += jobService.deleteJobsChunk(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return deleted;
+    }
+
+    /**
+     * [기업 삭제]
+     * 소속 공고(전형 단계/문항 포함)를 청크 단위로 모두 삭제한 뒤, 사용자 권한 → 사용자 → 기업 순으로 삭제합니다.
+     *
+     * @return 함께 삭제된 공고 수
+     */
+    public int deleteCompany(Long companyId) {
+        if (!companyRepository.existsById(companyId)) {
+            throw new IllegalArgumentException("삭제할 기업이 존재하지 않습니다.");
+        }
+        // 사용자 삭제 단계에서 외래 키 오류로 실패하지 않도록, 공고 삭제 전에 확인
+        if (jobRepository.existsCreatedByCompanyUsersInOtherCompanies(companyId)) {
+            throw new IllegalArgumentException("소속 사용자가 다른 기업의 공고 작성자로 등록되어 있어 삭제할 수 없습니다.");
+        }
+
+        long started = System.currentTimeMillis();
+        int deletedJobs = 0;
+        int deleted;
+        do {
+            deleted = jobService.deleteCompanyJobsChunk(companyId, CHUNK_SIZE);
+            deletedJobs += deleted;
+        } while (deleted == CHUNK_SIZE);
+
+        companyService.deleteCompanyRows(companyId);
+        log.info("기업 삭제 완료: companyId={}, 공고 {}건 ({}ms)", companyId, deletedJobs, System.currentTimeMillis() - started);
+        return deletedJobs;
+    }
+}
@@ -1,14 +1,16 @@
 package min.boot.ats.service;
 
 import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.CategoryTreeCache;
 import min.boot.ats.domain.JobCategory;
 import min.boot.ats.dto.CategoryRequestDto;
-import min.boot.ats.dto.CategoryResponseDto;
+import min.boot.ats.event.CategoryChangedEvent;
+import min.boot.ats.repo.JobCategoryClosureRepository;
 import min.boot.ats.repo.JobCategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +18,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final JobCategoryRepository categoryRepository;
+    private final JobCategoryClosureRepository closureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * [카테고리 등록]
@@ -38,18 +43,26 @@ public class CategoryService {
                 .parent(parent)
                 .build();
 
-        return categoryRepository.save(category).getId();
+        Long categoryId = categoryRepository.save(category).getId();
+
+        // closure table: 자기 자신 + 부모의 모든 조상 연결
+        closureRepository.insertSelf(categoryId);
+        if (parent != null) {
+            closureRepository.insertUnderParent(categoryId, parent.getId());
+        }
+
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+        return categoryId;
     }
 
     /**
      * [전체 카테고리 계층 조회]
-     * 최상위 카테고리(parent_id IS NULL)부터 자식 노드까지 재귀적으로 조회합니다.
+     * 최상위 카테고리(parent_id IS NULL)부터 모든 깊이의 자식 노드까지 반환합니다.
+     * 트리는 한 번의 쿼리로 조립된 캐시 스냅샷을 사용하며, 카테고리 변경 시에만 다시 만들어집니다.
+     * 스냅샷의 version은 전체 (id, version) 조합의 해시로, 등록/수정/삭제/부모 변경 시 값이 바뀝니다. (ETag로 사용)
      */
-    public List<CategoryResponseDto> getAllCategories() {
-        // 기존 findByParentIsNull... 대신 fetch join이 적용된 메서드 호출
-        return categoryRepository.findAllWithChildren().stream()
-                .map(CategoryResponseDto::new)
-                .collect(Collectors.toList());
+    public CategoryTreeCache.Snapshot getCategoryTree() {
+        return categoryTreeCache.get();
     }
 
     /**
@@ -72,9 +85,20 @@ public class CategoryService {
             JobCategory newParent = categoryRepository.findById(dto.getParentId())
                     .orElseThrow(() -> new IllegalArgumentException("부모 카테고리 없음"));
 
-            category.setParent(newParent);
+            if (category.getParent() == null || !newParent.getId().equals(category.getParent().getId())) {
+                // 자신의 하위 카테고리 아래로 옮기면 순환 참조가 생김
+                if (closureRepository.existsPath(category.getId(), newParent.getId())) {
+                    throw new IllegalArgumentException("하위 카테고리를 부모로 설정할 수 없습니다.");
+                }
+                category.setParent(newParent);
+
+                // closure table: 서브트리를 기존 조상에서 떼어 새 부모 아래로 연결
+                closureRepository.detachSubtree(category.getId());
+                closureRepository.attachSubtree(category.getId(), newParent.getId());
+            }
         }
 
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     /**
@@ -87,6 +111,8 @@ public class CategoryService {
         JobCategory category = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("삭제할 카테고리가 존재하지 않습니다."));
 
+        closureRepository.deleteAllByCategoryId(id);
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 }
\ No newline at end of file
@@ -4,7 +4,10 @@ import lombok.RequiredArgsConstructor;
 import min.boot.ats.domain.Company;
 import min.boot.ats.dto.CompanyRequestDto;
 import min.boot.ats.dto.CompanyResponseDto;
+import min.boot.ats.event.CompanyChangedEvent;
 import min.boot.ats.repo.CompanyRepository;
+import min.boot.ats.repo.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,8 @@ import java.util.stream.Collectors;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * [기업 등록]
@@ -38,6 +43,7 @@ public class CompanyService {
     /**
      * [기업 정보 수정]
      * 테이블 설계상 수정 가능한 필드는 'name'뿐입니다.
+     * 공고 목록 스냅샷/상세 캐시가 기업명을 함께 보관하므로 커밋 이후 갱신되도록 이벤트를 발행합니다.
      */
     @Transactional
     public void updateCompany(Long companyId, CompanyRequestDto dto) {
@@ -46,6 +52,7 @@ public class CompanyService {
 
         // 엔티티의 changeName 메서드 호출
         company.changeName(dto.getName());
+        eventPublisher.publishEvent(new CompanyChangedEvent(companyId));
     }
 
     /**
@@ -60,14 +67,17 @@ public class CompanyService {
     }
 
     /**
-     * [기업 삭제]
+     * [기업 행 삭제]
+     * 소속 공고를 모두 삭제한 뒤 CascadeDeleteService에서 호출합니다.
+     * 엔티티를 로딩하지 않고 사용자 권한 → 사용자 → 기업 순으로 DELETE 합니다.
      */
     @Transactional
-    public void deleteCompany(Long companyId) {
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new IllegalArgumentException("삭제할 기업이 존재하지 않습니다."));
-
-        companyRepository.delete(company);
+    public void deleteCompanyRows(Long companyId) {
+        userRepository.deleteUserRolesByCompanyId(companyId);
+        userRepository.deleteAllRowsByCompanyId(companyId);
+        if (companyRepository.deleteRowById(companyId) == 0) {
+            throw new IllegalArgumentException("삭제할 기업이 존재하지 않습니다.");
+        }
     }
 
     public List<CompanyResponseDto> getAllCompanies() {
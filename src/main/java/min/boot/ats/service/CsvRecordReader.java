@@ -0,0 +1,107 @@
+package min.boot.ats.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 레코드 단위 읽기 (RFC 4180)
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈과 이스케이프("")를 처리하며, 한 번에 한 레코드만 메모리에 둡니다.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private long line = 1;        // 다음 레코드가 시작되는 줄 번호
+    private long recordLine;      // 마지막으로 읽은 레코드의 시작 줄 번호
+    private int pushedBack = -2;  // 되돌린 문자 (-2: 없음)
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드 (입력 끝이면 null, 빈 줄은 건너뜀)
+     */
+    List<String> next() throws IOException {
+        while (true) {
+            recordLine = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                return fields;
+            }
+        }
+    }
+
+    long recordLine() {
+        return recordLine;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLine + "번째 줄: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        unread(nextChar);
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
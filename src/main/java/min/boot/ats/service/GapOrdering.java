@@ -0,0 +1,180 @@
+package min.boot.ats.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전형 단계/문항 순서 계산 (간격 기반 정렬값)
+ * 정렬값 사이에 간격(GAP)을 두어, 항목을 옮길 때 이미 순서가 맞는 항목은 그대로 두고
+ * 옮겨진 항목만 앞뒤 정렬값 사이의 값으로 바꿉니다. (드래그 앤 드롭 1회 = 1행 UPDATE)
+ * 사이에 남은 값이 없을 때만 전체를 GAP 간격으로 다시 매깁니다.
+ * 등록/수정/가져오기도 처음부터 GAP 간격으로 저장하여, 첫 이동부터 사이 값을 쓸 수 있게 합니다.
+ */
+final class GapOrdering {
+
+    static final int GAP = 1024;
+
+    private GapOrdering() {
+    }
+
+    /**
+     * 목록에서 index번째(0부터) 항목의 정렬값 (GAP, 2 * GAP, 3 * GAP ...)
+     */
+    static int spaced(int index) {
+        return Math.multiplyExact(index + 1, GAP);
+    }
+
+    /**
+     * 항목 하나를 afterId 바로 뒤로(afterId가 null이면 맨 앞으로) 옮긴 전체 순서
+     */
+    static List<Long> move(Collection<Long> currentSequence, Long itemId, Long afterId) {
+        if (!currentSequence.contains(itemId)) {
+            throw new IllegalArgumentException("이동할 항목이 공고에 존재하지 않습니다.");
+        }
+        if (afterId != null && !currentSequence.contains(afterId)) {
+            throw new IllegalArgumentException("기준 항목이 공고에 존재하지 않습니다.");
+        }
+        if (itemId.equals(afterId)) {
+            throw new IllegalArgumentException("자기 자신 뒤로 이동할 수 없습니다.");
+        }
+
+        List<Long> sequence = new ArrayList<>(currentSequence);
+        sequence.remove(itemId);
+        sequence.add(afterId == null ? 0 : sequence.indexOf(afterId) + 1, itemId);
+        return sequence;
+    }
+
+    /**
+     * 요청된 순서를 전체 순서로 보완 (요청에 없는 항목은 기존 순서대로 뒤에 붙임)
+     */
+    static List<Long> complete(List<Long> requested, Collection<Long> currentSequence) {
+        Set<Long> sequence = new LinkedHashSet<>();
+        for (Long id : requested) {
+            if (!currentSequence.contains(id)) {
+                throw new IllegalArgumentException("공고에 속하지 않은 항목이 포함되어 있습니다: " + id);
+            }
+            if (!sequence.add(id)) {
+                throw new IllegalArgumentException("중복된 항목이 포함되어 있습니다: " + id);
+            }
+        }
+        sequence.addAll(currentSequence);
+        return new ArrayList<>(sequence);
+    }
+
+    /**
+     * 목표 순서(sequence)를 만들기 위해 바꿔야 하는 정렬값 (변경되는 항목만 반환)
+     * 기존 정렬값이 이미 증가 순서인 가장 긴 부분 수열은 유지하고, 나머지만 사이 값으로 옮깁니다.
+     * currentOrders에 없는 항목(새로 추가할 항목)은 유지 대상에서 빠지며 항상 반환에 포함됩니다.
+     *
+     * @param currentOrders 항목 ID → 현재 정렬값
+     */
+    static Map<Long, Integer> plan(List<Long> sequence, Map<Long, Integer> currentOrders) {
+        int n = sequence.size();
+        int[] orders = new int[n];
+        boolean[] exists = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Integer order = currentOrders.get(sequence.get(i));
+            exists[i] = order != null;
+            orders[i] = exists[i] ? order : -1;
+        }
+
+        boolean[] keep = longestIncreasing(orders, exists);
+        if (!contains(keep, true)) {
+            return renumber(sequence, currentOrders); // 유지할 항목 없음 (전체 교체) - 등록과 같은 GAP 간격
+        }
+        long[] assigned = new long[n];
+        long prev = -1; // 정렬값은 0 이상
+        int i = 0;
+        while (i < n) {
+            if (keep[i]) {
+                assigned[i] = orders[i];
+                prev = orders[i];
+                i++;
+                continue;
+            }
+            // 유지되는 항목 사이의 옮길 구간 [i, j)을 (prev, upper) 사이에 고르게 배치
+            int j = i;
+            while (j < n && !keep[j]) {
+                j++;
+            }
+            int count = j - i;
+            long upper = j < n ? orders[j] : prev + (long) GAP * (count + 1);
+            if (upper - prev <= count || upper > Integer.MAX_VALUE) {
+                return renumber(sequence, currentOrders); // 사이에 남은 값 없음
+            }
+            for (int m = 0; m < count; m++) {
+                assigned[i + m] = prev + (upper - prev) * (m + 1) / (count + 1);
+            }
+            prev = assigned[j - 1];
+            i = j;
+        }
+
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int k = 0; k < n; k++) {
+            if (!exists[k] || assigned[k] != orders[k]) {
+                changed.put(sequence.get(k), (int) assigned[k]);
+            }
+        }
+        return changed;
+    }
+
+    // 전체를 GAP 간격으로 다시 매김 (값이 바뀌는 항목만 반환)
+    private static Map<Long, Integer> renumber(List<Long> sequence, Map<Long, Integer> currentOrders) {
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < sequence.size(); i++) {
+            int order = (i + 1) * GAP;
+            if (!Integer.valueOf(order).equals(currentOrders.get(sequence.get(i)))) {
+                changed.put(sequence.get(i), order);
+            }
+        }
+        return changed;
+    }
+
+    private static boolean contains(boolean[] values, boolean value) {
+        for (boolean v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 순증가 최장 부분 수열에 속하는 위치 표시 (O(n log n), candidate가 false인 위치는 제외)
+    private static boolean[] longestIncreasing(int[] values, boolean[] candidate) {
+        int n = values.length;
+        int[] tailIndex = new int[n];   // 길이 L+1 부분 수열의 마지막 위치
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (!candidate[i]) {
+                continue;
+            }
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[tailIndex[mid]] < values[i]) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[i] = lo > 0 ? tailIndex[lo - 1] : -1;
+            tailIndex[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+
+        boolean[] keep = new boolean[n];
+        for (int i = length > 0 ? tailIndex[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+}
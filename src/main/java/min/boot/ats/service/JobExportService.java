@@ -0,0 +1,128 @@
+package min.boot.ats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.domain.JobStatus;
+import min.boot.ats.dto.JobSummary;
+import min.boot.ats.repo.JobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기업 공고 내보내기 (CSV / NDJSON)
+ * 페이지 단위 조회(count + offset 반복) 대신 전방향 커서 하나로 전체 행을 읽어 바로 응답에 씁니다.
+ * 한 번에 한 행만 메모리에 두고, FLUSH_INTERVAL 행마다 flush하여 클라이언트가 즉시 받기 시작할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobExportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String CSV_HEADER =
+            "id,title,companyId,companyName,categoryId,categoryName,location,employmentType,createdAt,deadline,status";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * [기업 공고 내보내기]
+     * 커서가 열려 있는 동안 트랜잭션(읽기 전용)을 유지합니다.
+     *
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCompanyJobs(Long companyId, JobStatus status, String title, String format,
+                                  OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        boolean csv = FORMAT_CSV.equals(format);
+        if (csv) {
+            writer.write('\uFEFF'); // 엑셀에서 UTF-8로 인식하도록 BOM
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<JobSummary> stream = jobRepository.streamByCompanyIdAndFilters(companyId, status, title, FETCH_SIZE)) {
+            Iterator<JobSummary> it = stream.iterator();
+            while (it.hasNext()) {
+                JobSummary row = it.next();
+                if (csv) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("기업 공고 내보내기 완료: companyId={}, format={}, {}건 ({}ms)",
+                companyId, format, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, JobSummary row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(csvField(row.getTitle()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getCompanyId()));
+        writer.write(',');
+        writer.write(csvField(row.getCompanyName()));
+        writer.write(',');
+        writer.write(row.getCategoryId() != null ? String.valueOf(row.getCategoryId()) : "");
+        writer.write(',');
+        writer.write(csvField(row.getCategoryName()));
+        writer.write(',');
+        writer.write(csvField(row.getLocation()));
+        writer.write(',');
+        writer.write(csvField(row.getEmploymentType()));
+        writer.write(',');
+        writer.write(dateTime(row.getCreatedAt()));
+        writer.write(',');
+        writer.write(dateTime(row.getDeadline()));
+        writer.write(',');
+        writer.write(row.getStatus() != null ? row.getStatus().name() : "");
+        writer.write('\n');
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    // 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙임 (CSV injection 방지)
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String dateTime(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+}
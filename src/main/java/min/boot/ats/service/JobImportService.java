@@ -0,0 +1,437 @@
+package min.boot.ats.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import min.boot.ats.component.JobImportTracker;
+import min.boot.ats.domain.Company;
+import min.boot.ats.domain.Job;
+import min.boot.ats.domain.JobCategory;
+import min.boot.ats.domain.JobQuestion;
+import min.boot.ats.domain.JobStep;
+import min.boot.ats.domain.User;
+import min.boot.ats.dto.JobRequestDto;
+import min.boot.ats.event.JobChangedEvent;
+import min.boot.ats.repo.CompanyRepository;
+import min.boot.ats.repo.JobCategoryRepository;
+import min.boot.ats.repo.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채용 공고 일괄 등록(import)
+ * 요청 본문(NDJSON 또는 CSV)을 한 행씩 스트리밍으로 읽어 검증하고, CHUNK_SIZE 행 단위 트랜잭션으로 저장합니다.
+ *
+ * - 청크마다 flush 후 영속성 컨텍스트를 비우므로 가져오는 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * - INSERT는 시퀀스 ID + hibernate.jdbc.batch_size 설정으로 JDBC 배치로 묶입니다.
+ * - 기업/카테고리 존재 여부는 가져오기 1건 동안 ID별로 한 번만 조회합니다.
+ * - 열 길이/필수 값은 저장 전에 검증하고, 그래도 청크 저장이 DB 오류로 실패하면 해당 청크만 한 행씩 다시 저장하여 실패한 행을 골라냅니다.
+ * - 진행률과 행 오류는 JobImportTracker로 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class JobImportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private static final int CHUNK_SIZE = 500;
+    // 컬럼 길이 (Job/JobStep/JobQuestion 엔티티의 @Column length와 동일)
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_LOCATION_LENGTH = 255;
+    private static final int MAX_EMPLOYMENT_TYPE_LENGTH = 50;
+    private static final int MAX_SALARY_RANGE_LENGTH = 100;
+    private static final int MAX_STEP_NAME_LENGTH = 100;
+    private static final int MAX_QUESTION_TEXT_LENGTH = 1000;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "companyId", "categoryId", "title", "content", "location",
+            "employmentType", "salaryRange", "deadline", "steps");
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CompanyRepository companyRepository;
+    private final JobCategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final JobImportTracker importTracker;
+
+    public JobImportService(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            CompanyRepository companyRepository, JobCategoryRepository categoryRepository,
+                            UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper, JobImportTracker importTracker) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.companyRepository = companyRepository;
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.importTracker = importTracker;
+    }
+
+    /**
+     * [공고 일괄 등록]
+     * 형식 오류/검증 실패 행은 건너뛰고 오류로 기록하며, 나머지 행은 계속 저장합니다.
+     * 본문을 읽을 수 없는 경우(연결 끊김, 닫히지 않은 따옴표 등)에는 그때까지 저장된 행을 유지하고 중단합니다.
+     *
+     * @return 최종 진행 상황 (행 오류 포함)
+     */
+    public Map<String, Object> importJobs(Long userId, String format, InputStream body) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        JobImportTracker.Progress progress = importTracker.start(format, userId);
+        log.info("공고 일괄 등록 시작: {} (format={}, userId={})", progress.getId(), format, userId);
+
+        ImportContext context = new ImportContext(userId, progress);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            if (FORMAT_CSV.equals(format)) {
+                readCsv(reader, context);
+            } else {
+                readNdjson(reader, context);
+            }
+            flushChunk(context);
+            progress.complete();
+        } catch (IOException | RuntimeException e) {
+            flushChunk(context); // 이미 검증된 행은 저장
+            progress.fail(e.getMessage());
+            log.error("공고 일괄 등록 중단: {}", progress.getId(), e);
+        }
+
+        Map<String, Object> result = progress.toMap(true);
+        log.info("공고 일괄 등록 종료: {}", progress.toMap(false));
+        return result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportContext context) throws IOException {
+        long lineNo = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            context.progress.rowRead();
+            JobRequestDto dto;
+            try {
+                dto = objectMapper.readValue(line, JobRequestDto.class);
+            } catch (JsonProcessingException e) {
+                context.progress.rowFailed(lineNo, "JSON 형식 오류: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(lineNo, dto, context);
+        }
+    }
+
+    /**
+     * CSV 형식: 첫 행은 헤더(CSV_COLUMNS 중 필요한 열, 순서 무관)
+     * steps 열은 전형 단계명을 '|'로 구분하여 나열합니다. (나열 순서대로 간격을 둔 정렬값 부여)
+     */
+    private void readCsv(BufferedReader reader, ImportContext context) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("알 수 없는 CSV 열입니다: " + name);
+            }
+            columns.put(name, i);
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            context.progress.rowRead();
+            long lineNo = csv.recordLine();
+            JobRequestDto dto;
+            try {
+                dto = toDto(record, columns);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                context.progress.rowFailed(lineNo, e.getMessage());
+                continue;
+            }
+            accept(lineNo, dto, context);
+        }
+    }
+
+    private JobRequestDto toDto(List<String> record, Map<String, Integer> columns) {
+        String deadline = column(record, columns, "deadline");
+        String steps = column(record, columns, "steps");
+
+        List<JobRequestDto.StepRequestDto> stepDtos = new ArrayList<>();
+        if (steps != null) {
+            for (String name : steps.split("\\|")) {
+                if (!name.isBlank()) {
+                    stepDtos.add(new JobRequestDto.StepRequestDto(null, name.strip(), GapOrdering.spaced(stepDtos.size())));
+                }
+            }
+        }
+
+        return JobRequestDto.builder()
+                .companyId(parseId(column(record, columns, "companyId"), "companyId"))
+                .categoryId(parseId(column(record, columns, "categoryId"), "categoryId"))
+                .title(column(record, columns, "title"))
+                .content(column(record, columns, "content"))
+                .location(column(record, columns, "location"))
+                .employmentType(column(record, columns, "employmentType"))
+                .salaryRange(column(record, columns, "salaryRange"))
+                .deadline(deadline != null ? LocalDateTime.parse(deadline) : null)
+                .steps(stepDtos)
+                .build();
+    }
+
+    // 빈 값은 null로 취급
+    private String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private Long parseId(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    // 행 검증 후 현재 청크에 추가 (청크가 차면 저장)
+    private void accept(long lineNo, JobRequestDto dto, ImportContext context) {
+        String error = validate(dto, context);
+        if (error != null) {
+            context.progress.rowFailed(lineNo, error);
+            return;
+        }
+        context.chunk.add(new Row(lineNo, dto));
+        if (context.chunk.size() >= CHUNK_SIZE) {
+            flushChunk(context);
+        }
+    }
+
+    private String validate(JobRequestDto dto, ImportContext context) {
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            return "제목은 필수입니다.";
+        }
+        if (dto.getContent() == null || dto.getContent().isBlank()) {
+            return "내용은 필수입니다.";
+        }
+        String lengthError = firstError(
+                checkLength("제목", dto.getTitle(), MAX_TITLE_LENGTH),
+                checkLength("근무지", dto.getLocation(), MAX_LOCATION_LENGTH),
+                checkLength("고용 형태", dto.getEmploymentType(), MAX_EMPLOYMENT_TYPE_LENGTH),
+                checkLength("급여", dto.getSalaryRange(), MAX_SALARY_RANGE_LENGTH));
+        if (lengthError != null) {
+            return lengthError;
+        }
+        if (dto.getCompanyId() == null || !context.companyExists(dto.getCompanyId())) {
+            return "존재하지 않는 기업입니다: " + dto.getCompanyId();
+        }
+        if (dto.getCategoryId() == null || !context.categoryExists(dto.getCategoryId())) {
+            return "존재하지 않는 카테고리입니다: " + dto.getCategoryId();
+        }
+        if (dto.getSteps() != null) {
+            for (JobRequestDto.StepRequestDto step : dto.getSteps()) {
+                if (step.getName() == null || step.getName().isBlank()) {
+                    return "전형 단계명은 필수입니다.";
+                }
+                String error = checkLength("전형 단계명", step.getName(), MAX_STEP_NAME_LENGTH);
+                if (error != null) {
+                    return error;
+                }
+            }
+        }
+        if (dto.getQuestions() != null) {
+            for (JobRequestDto.QuestionRequestDto question : dto.getQuestions()) {
+                if (question.getText() == null || question.getText().isBlank()) {
+                    return "문항 내용은 필수입니다.";
+                }
+                if (question.getType() == null) {
+                    return "문항 유형은 필수입니다.";
+                }
+                String error = checkLength("문항 내용", question.getText(), MAX_QUESTION_TEXT_LENGTH);
+                if (error != null) {
+                    return error;
+                }
+            }
+        }
+        try {
+            // 전형 단계/문항 엔티티 검증 (순서, 필수 여부 값 등)을 저장 전에 미리 수행
+            toSteps(dto);
+            toQuestions(dto);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private static String firstError(String... errors) {
+        for (String error : errors) {
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    // 컬럼 길이 초과 행은 INSERT 전에 걸러냄 (ORA-12899로 청크 전체가 재시도되지 않도록)
+    private static String checkLength(String label, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            return label + "은(는) " + maxLength + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private void flushChunk(ImportContext context) {
+        if (context.chunk.isEmpty()) {
+            return;
+        }
+        List<Row> rows = new ArrayList<>(context.chunk);
+        context.chunk.clear();
+        try {
+            context.progress.imported(saveInTransaction(rows, context));
+        } catch (DataAccessException | PersistenceException e) {
+            // 공유 EntityManager의 flush 예외는 스프링 예외로 변환되지 않으므로 PersistenceException도 함께 처리
+            // 청크 내 어떤 행이 실패했는지 알 수 없으므로 한 행씩 다시 저장
+            log.warn("공고 일괄 등록 청크 저장 실패, 행 단위로 재시도: {} ({}행)", e.getMessage(), rows.size());
+            for (Row row : rows) {
+                try {
+                    context.progress.imported(saveInTransaction(List.of(row), context));
+                } catch (DataAccessException | PersistenceException rowError) {
+                    context.progress.rowFailed(row.line(),
+                            "저장 실패: " + NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+        }
+    }
+
+    private int saveInTransaction(List<Row> rows, ImportContext context) {
+        Integer saved = transactionTemplate.execute(status -> {
+            try {
+                return save(rows, context);
+            } finally {
+                entityManager.clear(); // 실패 시에도 다음 청크로 엔티티가 남지 않도록
+            }
+        });
+        return saved != null ? saved : 0;
+    }
+
+    private int save(List<Row> rows, ImportContext context) {
+        User createdBy = entityManager.getReference(User.class, context.userId);
+        List<Job> jobs = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Job job = toJob(row.dto(), createdBy);
+            entityManager.persist(job);
+            jobs.add(job);
+        }
+        entityManager.flush();
+
+        List<Long> jobIds = jobs.stream().map(Job::getId).toList();
+        if (!jobIds.isEmpty()) {
+            eventPublisher.publishEvent(JobChangedEvent.created(jobIds));
+        }
+        return jobIds.size();
+    }
+
+    private Job toJob(JobRequestDto dto, User createdBy) {
+        Job job = Job.builder()
+                .title(dto.getTitle())
+                .content(dto.getContent())
+                .deadline(dto.getDeadline())
+                .company(entityManager.getReference(Company.class, dto.getCompanyId()))
+                .category(entityManager.getReference(JobCategory.class, dto.getCategoryId()))
+                .createdBy(createdBy)
+                .location(dto.getLocation())
+                .employmentType(dto.getEmploymentType())
+                .salaryRange(dto.getSalaryRange())
+                .build();
+
+        toSteps(dto).forEach(job::addStep);
+        toQuestions(dto).forEach(job::addQuestion);
+        return job;
+    }
+
+    private List<JobStep> toSteps(JobRequestDto dto) {
+        if (dto.getSteps() == null) {
+            return List.of();
+        }
+        List<JobStep> steps = new ArrayList<>(dto.getSteps().size());
+        for (int i = 0; i < dto.getSteps().size(); i++) {
+            steps.add(JobStep.builder()
+                    .stepName(dto.getSteps().get(i).getName())
+                    .stepOrder(GapOrdering.spaced(i)) // 목록 순서대로 간격을 둔 정렬값
+                    .build());
+        }
+        return steps;
+    }
+
+    private List<JobQuestion> toQuestions(JobRequestDto dto) {
+        if (dto.getQuestions() == null) {
+            return List.of();
+        }
+        List<JobQuestion> questions = new ArrayList<>(dto.getQuestions().size());
+        for (int i = 0; i < dto.getQuestions().size(); i++) {
+            JobRequestDto.QuestionRequestDto questDto = dto.getQuestions().get(i);
+            questions.add(JobQuestion.builder()
+                    .questionText(questDto.getText())
+                    .questionType(questDto.getType())
+                    .isRequired(questDto.getIsRequired())
+                    .displayOrder(GapOrdering.spaced(i)) // 목록 순서대로 간격을 둔 정렬값
+                    .build());
+        }
+        return questions;
+    }
+
+    private record Row(long line, JobRequestDto dto) {
+    }
+
+    // 가져오기 1건 동안 유지되는 상태 (기업/카테고리 존재 여부 캐시, 현재 청크)
+    private class ImportContext {
+
+        private final Long userId;
+        private final JobImportTracker.Progress progress;
+        private final Map<Long, Boolean> companies = new HashMap<>();
+        private final Map<Long, Boolean> categories = new HashMap<>();
+        private final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        private ImportContext(Long userId, JobImportTracker.Progress progress) {
+            this.userId = userId;
+            this.progress = progress;
+        }
+
+        private boolean companyExists(Long companyId) {
+            return companies.computeIfAbsent(companyId, companyRepository::existsById);
+        }
+
+        private boolean categoryExists(Long categoryId) {
+            return categories.computeIfAbsent(categoryId, categoryRepository::existsById);
+        }
+    }
+}
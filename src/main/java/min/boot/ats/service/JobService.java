@@ -1,31 +1,68 @@
 package min.boot.ats.service;
 
 import lombok.RequiredArgsConstructor;
+import min.boot.ats.component.CategoryTreeCache;
+import min.boot.ats.component.JobDetailCache;
+import min.boot.ats.component.JobFacetCounter;
+import min.boot.ats.component.JobSearchIndex;
+import min.boot.ats.component.OpenJobSnapshot;
+import min.boot.ats.component.OpenJobSnapshotStore;
+import min.boot.ats.component.OpenJobsCache;
 import min.boot.ats.domain.*;
+import min.boot.ats.dto.CursorPageResponseDto;
+import min.boot.ats.dto.JobBulkStatusRequestDto;
+import min.boot.ats.dto.JobBulkStatusResponseDto;
+import min.boot.ats.dto.JobFacetResponseDto;
+import min.boot.ats.dto.JobCursor;
 import min.boot.ats.dto.JobRequestDto;
 import min.boot.ats.dto.JobResponseDto;
+import min.boot.ats.dto.JobSummary;
+import min.boot.ats.dto.JobVersions;
+import min.boot.ats.event.JobChangedEvent;
 import min.boot.ats.repo.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class JobService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BULK_STATUS_SIZE = 1000; // Oracle IN 목록 한도
+
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
     private final JobCategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpenJobsCache openJobsCache;
+    private final JobDetailCache jobDetailCache;
+    private final JobFacetCounter jobFacetCounter;
+    private final OpenJobSnapshotStore openJobSnapshotStore;
+    private final JobSearchIndex jobSearchIndex;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * [채용 공고 등록]
      * 설계서의 jobs, job_steps, job_questions 테이블에 데이터를 동시 저장합니다.
+     * 전형 단계/문항 정렬값은 요청 목록 순서대로 간격을 두고 매깁니다. (GapOrdering)
      */
     @Transactional
     public Long createJob(Long companyId, Long userId, Long categoryId, JobRequestDto dto) {
@@ -53,126 +90,393 @@ public class JobService {
 
         //  전형 단계 추가
         if (dto.getSteps() != null) {
-            dto.getSteps().forEach(stepDto ->
-                    job.addStep(JobStep.builder()
-                            .stepName(stepDto.getName())
-                            .stepOrder(stepDto.getOrder())
-                            .build())
-            );
+            List<JobRequestDto.StepRequestDto> steps = dto.getSteps();
+            for (int i = 0; i < steps.size(); i++) {
+                job.addStep(JobStep.builder()
+                        .stepName(steps.get(i).getName())
+                        .stepOrder(GapOrdering.spaced(i))
+                        .build());
+            }
         }
 
         // 지원서 문항 추가
         if (dto.getQuestions() != null) {
-            dto.getQuestions().forEach(questDto ->
-                    job.addQuestion(JobQuestion.builder()
-                            .questionText(questDto.getText())
-                            .questionType(questDto.getType())
-                            .isRequired(questDto.getIsRequired())
-                            .displayOrder(questDto.getOrder())
-                            .build())
-            );
+            List<JobRequestDto.QuestionRequestDto> questions = dto.getQuestions();
+            for (int i = 0; i < questions.size(); i++) {
+                JobRequestDto.QuestionRequestDto questDto = questions.get(i);
+                job.addQuestion(JobQuestion.builder()
+                        .questionText(questDto.getText())
+                        .questionType(questDto.getType())
+                        .isRequired(questDto.getIsRequired())
+                        .displayOrder(GapOrdering.spaced(i))
+                        .build());
+            }
         }
 
-        return jobRepository.save(job).getId();
+        Long jobId = jobRepository.save(job).getId();
+        eventPublisher.publishEvent(JobChangedEvent.created(jobId));
+        return jobId;
     }
 
     /**
      * [전형 단계 및 문항 순서 일괄 업데이트]
+     * 엔티티 대신 (ID, 정렬값)만 조회하고, 순서가 실제로 바뀐 항목만 CASE UPDATE 한 번으로 변경합니다.
+     * 요청에 없는 항목은 기존 순서대로 뒤에 붙습니다.
      */
     @Transactional
     public void reorderJobElements(Long jobId, List<Long> stepIds, List<Long> questionIds) {
-        Job job = jobRepository.findByIdWithDetails(jobId)
+        // 공고 버전 증가 (동시 순서 변경 충돌 감지 및 ETag 갱신)
+        jobRepository.findByIdForUpdate(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다."));
 
         if (stepIds != null) {
-            for (int i = 0; i < stepIds.size(); i++) {
-                Long id = stepIds.get(i);
-                int order = i + 1;
-                job.getSteps().stream()
-                        .filter(s -> s.getId().equals(id))
-                        .findFirst()
-                        .ifPresent(s -> s.updateOrder(order));
-            }
+            Map<Long, Integer> current = jobRepository.findStepOrders(jobId);
+            List<Long> sequence = GapOrdering.complete(stepIds, current.keySet());
+            jobRepository.updateStepOrders(jobId, GapOrdering.plan(sequence, current));
         }
 
         if (questionIds != null) {
-            for (int i = 0; i < questionIds.size(); i++) {
-                Long id = questionIds.get(i);
-                int order = i + 1;
-                job.getQuestions().stream()
-                        .filter(q -> q.getId().equals(id))
-                        .findFirst()
-                        .ifPresent(q -> q.updateOrder(order));
-            }
+            Map<Long, Integer> current = jobRepository.findQuestionOrders(jobId);
+            List<Long> sequence = GapOrdering.complete(questionIds, current.keySet());
+            jobRepository.updateQuestionOrders(jobId, GapOrdering.plan(sequence, current));
         }
+
+        eventPublisher.publishEvent(JobChangedEvent.reordered(jobId));
     }
 
     /**
-     * [마감 공고 자동 상태 변경]
-     * JobScheduler에서 주기적으로 호출 (벌크 업데이트로 성능 확보)
+     * [전형 단계 1건 이동] - afterStepId 바로 뒤로 이동 (null이면 맨 앞)
+     * 앞뒤 단계의 정렬값 사이에 빈 값이 있으면 옮긴 단계 1행만 변경됩니다.
      */
     @Transactional
-    public int closeExpiredJobs() {
-        LocalDateTime now = LocalDateTime.now();
-        return jobRepository.updateStatusForExpiredJobs(JobStatus.CLOSED, JobStatus.OPEN, now);
+    public void moveStep(Long jobId, Long stepId, Long afterStepId) {
+        jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다."));
+
+        Map<Long, Integer> current = jobRepository.findStepOrders(jobId);
+        List<Long> sequence = GapOrdering.move(current.keySet(), stepId, afterStepId);
+        jobRepository.updateStepOrders(jobId, GapOrdering.plan(sequence, current));
+
+        eventPublisher.publishEvent(JobChangedEvent.reordered(jobId));
+    }
+
+    /**
+     * [문항 1건 이동] - afterQuestionId 바로 뒤로 이동 (null이면 맨 앞)
+     */
+    @Transactional
+    public void moveQuestion(Long jobId, Long questionId, Long afterQuestionId) {
+        jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다."));
+
+        Map<Long, Integer> current = jobRepository.findQuestionOrders(jobId);
+        List<Long> sequence = GapOrdering.move(current.keySet(), questionId, afterQuestionId);
+        jobRepository.updateQuestionOrders(jobId, GapOrdering.plan(sequence, current));
+
+        eventPublisher.publishEvent(JobChangedEvent.reordered(jobId));
+    }
+
+    /**
+     * [마감 공고 청크 단위 상태 변경]
+     * JobScheduler의 보정용 전체 검사에서 반복 호출합니다. 한 번에 chunkSize건만 별도 트랜잭션으로 처리하여
+     * 행 잠금을 짧게 유지합니다. (반환값이 chunkSize 미만이면 남은 대상 없음)
+     * 평상시 마감 처리는 JobExpiryTimer가 마감 시각에 맞춰 closeExpiredJobs(ids)로 수행합니다.
+     */
+    @Transactional
+    public int closeExpiredJobsChunk(LocalDateTime now, int chunkSize) {
+        List<Long> expiredIds = jobRepository.findIdsForExpiredJobs(JobStatus.OPEN, now, PageRequest.of(0, chunkSize));
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+
+        jobRepository.updateStatusByIds(expiredIds, JobStatus.CLOSED, JobStatus.OPEN);
+        eventPublisher.publishEvent(JobChangedEvent.statusChanged(expiredIds, JobStatus.CLOSED));
+        return expiredIds.size();
+    }
+
+    /**
+     * [지정 공고 마감 처리] - JobExpiryTimer에서 마감 시각이 지난 공고를 소량 배치로 호출
+     * 그 사이 상태/마감일이 바뀐 공고는 제외하도록 DB 기준으로 다시 확인합니다.
+     */
+    @Transactional
+    public int closeExpiredJobs(Collection<Long> jobIds) {
+        List<Long> expiredIds = jobRepository.findIdsForExpiredJobsIn(jobIds, JobStatus.OPEN, LocalDateTime.now());
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+
+        int closed = jobRepository.updateStatusByIds(expiredIds, JobStatus.CLOSED, JobStatus.OPEN);
+        eventPublisher.publishEvent(JobChangedEvent.statusChanged(expiredIds, JobStatus.CLOSED));
+        return closed;
+    }
+
+    /**
+     * [공고 ETag 조회]
+     * 버전 컬럼만 조회하여 클라이언트 캐시(If-None-Match)가 최신인지 판단합니다.
+     * 상세에 기업명/카테고리명이 포함되므로 기업/카테고리 버전도 ETag에 넣습니다. (공고는 그대로여도 이름 변경 시 ETag 변경)
+     */
+    public String getJobETag(Long jobId) {
+        JobVersions versions = jobRepository.findVersionsById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 공고를 찾을 수 없습니다."));
+        return toETag(jobId, versions);
+    }
+
+    public static String toETag(Long jobId, JobVersions versions) {
+        return "job-" + jobId + "-v" + versions.jobVersion()
+                + "-c" + versions.companyVersion() + "-k" + versions.categoryVersion();
     }
 
     /**
      * [공고 상세 조회]
      */
     public JobResponseDto getJobDetail(Long jobId) {
-        Job job = jobRepository.findByIdWithDetails(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 공고를 찾을 수 없습니다."));
-        return new JobResponseDto(job);
+        // 캐시 미스일 때만 조회 (동일 공고 동시 요청은 한 번만 로드)
+        return jobDetailCache.get(jobId, id -> {
+            Job job = jobRepository.findByIdWithDetails(id)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 공고를 찾을 수 없습니다."));
+            return new JobResponseDto(job);
+        });
+    }
+
+    public Page<JobSummary> getCompanyJobsPaging(Long companyId, String title, JobStatus status, Pageable pageable) {
+        // QueryDSL을 이용해 동적 쿼리 실행 (목록은 요약 프로젝션으로 조회)
+        return jobRepository.findAllByCompanyIdAndFilters(companyId, status, title, pageable);
     }
 
-    public Page<JobResponseDto> getCompanyJobsPaging(Long companyId, String title, JobStatus status, Pageable pageable) {
-        // QueryDSL을 이용해 동적 쿼리 실행
-        return jobRepository.findAllByCompanyIdAndFilters(companyId, status, title, pageable)
+    /**
+     * [기업별 공고 목록 조회 - 전형 단계/문항 포함]
+     * 채용 담당자 대시보드용: 페이지 ID를 먼저 조회한 뒤 연관 데이터를 일괄 로딩하여 쿼리 수를 고정합니다.
+     */
+    public Page<JobResponseDto> getCompanyJobsWithDetails(Long companyId, String title, JobStatus status, Pageable pageable) {
+        return jobRepository.findAllWithDetailsByCompanyIdAndFilters(companyId, status, title, pageable)
                 .map(JobResponseDto::new);
     }
 
     /**
      * [채용 공고 삭제]
+     * 엔티티를 로딩하지 않고 전형 단계 → 문항 → 공고 순으로 DELETE 합니다.
      */
     @Transactional
     public void deleteJob(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("삭제할 공고가 존재하지 않습니다."));
-        jobRepository.delete(job);
+        if (deleteJobRows(List.of(jobId)) == 0) {
+            throw new IllegalArgumentException("삭제할 공고가 존재하지 않습니다.");
+        }
+    }
+
+    /**
+     * [공고 청크 단위 삭제]
+     * CascadeDeleteService에서 청크마다 별도 트랜잭션으로 호출하여 행 잠금을 짧게 유지합니다.
+     *
+     * @return 실제로 삭제된 공고 수
+     */
+    @Transactional
+    public int deleteJobsChunk(Collection<Long> jobIds) {
+        return deleteJobRows(jobIds);
+    }
+
+    /**
+     * [기업 공고 청크 단위 삭제]
+     * 기업의 공고를 ID 순으로 chunkSize건 삭제합니다. (반환값이 chunkSize 미만이면 남은 공고 없음)
+     */
+    @Transactional
+    public int deleteCompanyJobsChunk(Long companyId, int chunkSize) {
+        List<Long> jobIds = jobRepository.findIdsByCompanyId(companyId, PageRequest.of(0, chunkSize));
+        deleteJobRows(jobIds);
+        return jobIds.size();
+    }
+
+    // 자식 → 부모 순 집합 삭제 (DELETE ... WHERE job_id IN (...))
+    private int deleteJobRows(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        jobRepository.deleteStepsByJobIds(jobIds);
+        jobRepository.deleteQuestionsByJobIds(jobIds);
+        int deleted = jobRepository.deleteAllRowsByIds(jobIds);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(JobChangedEvent.deleted(List.copyOf(jobIds)));
+        }
+        return deleted;
     }
 
     /**
      * [단일 상태 변경]
+     * 공고 관리 화면의 마감 처리(임시 → 마감), 수정 화면의 임시저장(마감 → 임시)이 이 경로를 쓰므로
+     * 전이 규칙(JobStatus.transitionSources)은 일괄 상태 변경에만 적용합니다.
      */
     @Transactional
     public void updateStatus(Long jobId, JobStatus status) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다."));
         job.updateStatus(status);
+        eventPublisher.publishEvent(JobChangedEvent.statusChanged(List.of(jobId), status));
+    }
+
+    /**
+     * [일괄 상태 변경]
+     * 대상 공고를 전이 규칙(JobStatus.transitionSources, 공개 전환 시 마감일)을 WHERE 조건으로 한 UPDATE 한 문장으로 변경하고,
+     * 공고별 결과를 반환합니다. 변경된 공고는 JobChangedEvent 한 건으로 캐시/색인에 반영됩니다. (커밋 이후)
+     */
+    @Transactional
+    public JobBulkStatusResponseDto updateStatusInBulk(JobBulkStatusRequestDto dto) {
+        JobStatus target = dto.getTargetStatus();
+        if (target == null) {
+            throw new IllegalArgumentException("변경할 상태값이 유효하지 않습니다.");
+        }
+        List<Long> jobIds = resolveBulkStatusTargets(dto);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, JobStatus> before = jobRepository.findStatusesByIds(jobIds);
+        List<Long> changeable = jobRepository.findIdsForStatusChange(jobIds, target, now);
+        long updatedCount = jobRepository.updateStatusForChange(changeable, target, now);
+
+        Set<Long> updatedIds = new HashSet<>(changeable);
+        if (updatedCount < changeable.size()) {
+            // 조회와 UPDATE 사이에 다른 요청이 상태를 바꾼 공고 → 현재 상태로 다시 판정
+            Map<Long, JobStatus> after = jobRepository.findStatusesByIds(changeable);
+            updatedIds.removeIf(id -> after.get(id) != target);
+        }
+
+        List<JobBulkStatusResponseDto.Result> results = new ArrayList<>(jobIds.size());
+        List<Long> changedIds = new ArrayList<>();
+        for (Long jobId : jobIds) {
+            JobStatus previous = before.get(jobId);
+            JobBulkStatusResponseDto.Outcome outcome;
+            if (previous == null) {
+                outcome = JobBulkStatusResponseDto.Outcome.NOT_FOUND;
+            } else if (updatedIds.contains(jobId)) {
+                outcome = JobBulkStatusResponseDto.Outcome.UPDATED;
+                changedIds.add(jobId);
+            } else if (previous == target) {
+                outcome = JobBulkStatusResponseDto.Outcome.ALREADY_IN_STATUS;
+            } else if (!target.transitionSources().contains(previous)) {
+                outcome = JobBulkStatusResponseDto.Outcome.INVALID_TRANSITION;
+            } else if (target == JobStatus.OPEN && !changeable.contains(jobId)) {
+                outcome = JobBulkStatusResponseDto.Outcome.DEADLINE_PASSED;
+            } else {
+                outcome = JobBulkStatusResponseDto.Outcome.CONFLICT;
+            }
+            results.add(new JobBulkStatusResponseDto.Result(jobId, outcome, previous));
+        }
+
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(JobChangedEvent.statusChanged(changedIds, target));
+        }
+        return new JobBulkStatusResponseDto(target, jobIds.size(), changedIds.size(), results);
+    }
+
+    // 일괄 상태 변경 대상 공고 ID (요청 ID 목록 또는 기업 + 필터 검색 결과, 최대 MAX_BULK_STATUS_SIZE건)
+    private List<Long> resolveBulkStatusTargets(JobBulkStatusRequestDto dto) {
+        if (dto.getJobIds() != null && !dto.getJobIds().isEmpty()) {
+            List<Long> jobIds = dto.getJobIds().stream().filter(Objects::nonNull).distinct().toList();
+            if (jobIds.size() > MAX_BULK_STATUS_SIZE) {
+                throw new IllegalArgumentException("한 번에 변경할 수 있는 공고는 최대 " + MAX_BULK_STATUS_SIZE + "건입니다.");
+            }
+            return jobIds;
+        }
+        if (dto.getCompanyId() == null) {
+            throw new IllegalArgumentException("대상 공고 ID 목록 또는 기업 ID가 필요합니다.");
+        }
+        List<Long> jobIds = jobRepository.findIdsByCompanyIdAndFilters(
+                dto.getCompanyId(), dto.getStatus(), dto.getTitle(), MAX_BULK_STATUS_SIZE + 1);
+        if (jobIds.size() > MAX_BULK_STATUS_SIZE) {
+            throw new IllegalArgumentException("조건에 맞는 공고가 " + MAX_BULK_STATUS_SIZE + "건을 넘습니다. 조건을 좁혀 주세요.");
+        }
+        return jobIds;
     }
 
     /**
      * [전체 공개 공고 목록 조회 - 필터링 및 페이징 포함]
-     * 검색어, 카테고리, 고용형태 조건을 결합하여 조회합니다.
+     * 검색어, 카테고리(하위 카테고리 포함), 고용형태 조건을 결합하여 조회합니다.
+     * 메모리 스냅샷이 준비되어 있으면 DB 조회 없이 스냅샷에서 필터링/페이징합니다. (검색어는 색인 일치 공고 전체 사용)
      */
-    public Page<JobResponseDto> getOpenJobs(String title, Long categoryId, String employmentType, Pageable pageable) {
-        // Custom Repository에 정의한 메서드가 호출됩니다.
-        return jobRepository.findByFilters(JobStatus.OPEN, title, categoryId, employmentType, pageable)
-                .map(JobResponseDto::new);
+    public Page<JobSummary> getOpenJobs(String title, Long categoryId, String employmentType, Pageable pageable) {
+        boolean hasTitle = title != null && !title.isBlank();
+        OpenJobSnapshot snapshot = openJobSnapshotStore.current();
+        if (snapshot != null && (!hasTitle || jobSearchIndex.isReady())) {
+            List<Long> rankedIds = hasTitle ? jobSearchIndex.searchAll(title) : null;
+            long[] categoryIds = categoryId != null ? categoryTreeCache.get().subtreeIds(categoryId) : null;
+            return snapshot.query(rankedIds, categoryIds, employmentType, pageable);
+        }
+
+        // 동일 필터 조합 요청이 대부분이므로 목록/건수를 단기 캐시 (정규화된 검색어로 조회)
+        OpenJobsCache.FilterKey filter = openJobsCache.filterKey(title, categoryId, employmentType);
+
+        List<JobSummary> content = openJobsCache.getPage(filter, pageable, () -> {
+            // Custom Repository에 정의한 메서드가 호출됩니다.
+            Page<JobSummary> page = jobRepository.findByFilters(
+                    JobStatus.OPEN, filter.title(), categoryId, employmentType, pageable);
+            openJobsCache.putCountIfAbsent(filter, page.getTotalElements());
+            return page.getContent();
+        });
+        long total = openJobsCache.getCount(filter, () ->
+                jobRepository.countByFilters(JobStatus.OPEN, filter.title(), categoryId, employmentType));
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * [공개 공고 facet 건수 조회] - 필터 사이드바용 카테고리/고용형태별 공고 수
+     * 메모리에 유지되는 건수 표를 사용하며, 검색어가 있으면 검색 결과 공고만 집계합니다.
+     */
+    public JobFacetResponseDto getOpenJobFacets(String title, Long categoryId, String employmentType) {
+        List<Long> candidateIds = (title != null && !title.isBlank())
+                ? jobRepository.findIdsByTitle(JobStatus.OPEN, title)
+                : null;
+        return jobFacetCounter.count(candidateIds, categoryId, employmentType);
+    }
+
+    /**
+     * [전체 공개 공고 목록 조회 - 커서(무한 스크롤) 방식]
+     * OFFSET 대신 마지막 공고 위치(createdAt, id)부터 이어 읽으며, 전체 건수 count 쿼리는 실행하지 않습니다.
+     */
+    public CursorPageResponseDto<JobSummary> getOpenJobsByCursor(String title, Long categoryId, String employmentType,
+                                                                     String cursor, int size) {
+        int pageSize = normalizeCursorPageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<JobSummary> rows = jobRepository.findByFiltersAfter(
+                JobStatus.OPEN, title, categoryId, employmentType, JobCursor.decode(cursor), pageSize + 1);
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * [기업별 공고 목록 조회 - 커서(무한 스크롤) 방식]
+     */
+    public CursorPageResponseDto<JobSummary> getCompanyJobsByCursor(Long companyId, String title, JobStatus status,
+                                                                        String cursor, int size) {
+        int pageSize = normalizeCursorPageSize(size);
+        List<JobSummary> rows = jobRepository.findAllByCompanyIdAndFiltersAfter(
+                companyId, status, title, JobCursor.decode(cursor), pageSize + 1);
+        return toCursorPage(rows, pageSize);
+    }
+
+    private int normalizeCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private CursorPageResponseDto<JobSummary> toCursorPage(List<JobSummary> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<JobSummary> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+
+        String nextCursor = hasNext ? JobCursor.from(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(content, content.size(), hasNext, nextCursor);
     }
 
     /**
      * [공고 수정 로직]
      * 1. 기본 정보(제목, 내용 등) 업데이트
-     * 2. 기존 전형 단계/질문 모두 삭제 후, 요청받은 새 리스트로 교체 (Delete-Insert)
+     * 2. 전형 단계/질문은 요청 목록과 비교하여 필요한 변경만 반영 (Merge)
+     *    - ID가 있는 항목: 기존 항목 수정 (값이 같으면 Dirty Checking에 의해 UPDATE 없음)
+     *    - ID가 없는 항목: 새로 추가
+     *    - 요청에 없는 기존 항목: 삭제
+     *    - 정렬값: 순서가 그대로인 기존 항목은 유지하고, 새 항목/옮겨진 항목만 사이 값으로 매김 (GapOrdering.plan)
+     *    (ID를 보내지 않는 기존 클라이언트는 이전과 같이 전체 교체로 동작)
      */
     @Transactional
     public void updateJob(Long jobId, JobRequestDto dto) {
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findByIdForUpdate(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 공고를 찾을 수 없습니다."));
 
-        // 1. 기본 정보 수정 (Job 엔티티에 updateInfo 메서드 필요 -> 3단계 참고)
+        // 1. 기본 정보 수정
         job.updateInfo(
                 dto.getTitle(),
                 dto.getContent(),
@@ -182,29 +486,109 @@ public class JobService {
                 dto.getDeadline()
         );
 
-        // 2. 전형 단계 교체 (기존 것 비우고 새로 추가)
-        job.clearSteps(); // 기존 리스트 clear
-        if (dto.getSteps() != null) {
-            dto.getSteps().forEach(stepDto -> {
-                job.addStep(JobStep.builder()
-                        .stepName(stepDto.getName()) // DTO: name
-                        .stepOrder(stepDto.getOrder()) // DTO: order
+        // 2. 전형 단계 / 질문 문항 병합
+        mergeSteps(job, dto.getSteps() != null ? dto.getSteps() : List.of());
+        mergeQuestions(job, dto.getQuestions() != null ? dto.getQuestions() : List.of());
+
+        eventPublisher.publishEvent(JobChangedEvent.updated(jobId));
+    }
+
+    private void mergeSteps(Job job, List<JobRequestDto.StepRequestDto> requested) {
+        Map<Long, JobStep> existing = new HashMap<>();
+        Map<Long, Integer> currentOrders = new HashMap<>();
+        job.getSteps().forEach(step -> {
+            existing.put(step.getId(), step);
+            currentOrders.put(step.getId(), step.getStepOrder());
+        });
+
+        List<Long> sequence = orderSequence(requested, JobRequestDto.StepRequestDto::getId, existing.keySet(), "전형 단계");
+        // 순서가 그대로인 기존 단계는 정렬값 유지, 새로 추가되거나 옮겨진 단계만 새 정렬값
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, currentOrders);
+
+        List<JobStep> added = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            JobRequestDto.StepRequestDto stepDto = requested.get(i);
+            Long key = sequence.get(i);
+            if (stepDto.getId() == null) {
+                added.add(JobStep.builder()
+                        .stepName(stepDto.getName())
+                        .stepOrder(changed.get(key))
                         .build());
-            });
+                continue;
+            }
+            existing.get(key).updateStepInfo(stepDto.getName(), changed.getOrDefault(key, currentOrders.get(key)));
         }
 
-        // 3. 질문 문항 교체 (기존 것 비우고 새로 추가)
-        job.clearQuestions(); // 기존 리스트 clear
-        if (dto.getQuestions() != null) {
-            dto.getQuestions().forEach(qDto -> {
-                job.addQuestion(JobQuestion.builder()
-                        .questionText(qDto.getText()) // DTO: text
-                        .questionType(qDto.getType()) // DTO: type (Enum)
-                        .isRequired(qDto.getIsRequired()) // DTO: isRequired
-                        .displayOrder(qDto.getOrder()) // DTO: order
+        Set<Long> kept = new HashSet<>(sequence);
+        existing.forEach((id, step) -> {
+            if (!kept.contains(id)) {
+                job.removeStep(step);
+            }
+        });
+        added.forEach(job::addStep);
+    }
+
+    private void mergeQuestions(Job job, List<JobRequestDto.QuestionRequestDto> requested) {
+        Map<Long, JobQuestion> existing = new HashMap<>();
+        Map<Long, Integer> currentOrders = new HashMap<>();
+        job.getQuestions().forEach(question -> {
+            existing.put(question.getId(), question);
+            currentOrders.put(question.getId(), question.getDisplayOrder());
+        });
+
+        List<Long> sequence = orderSequence(requested, JobRequestDto.QuestionRequestDto::getId, existing.keySet(), "문항");
+        // 순서가 그대로인 기존 문항은 정렬값 유지, 새로 추가되거나 옮겨진 문항만 새 정렬값
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, currentOrders);
+
+        List<JobQuestion> added = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            JobRequestDto.QuestionRequestDto qDto = requested.get(i);
+            Long key = sequence.get(i);
+            if (qDto.getId() == null) {
+                added.add(JobQuestion.builder()
+                        .questionText(qDto.getText())
+                        .questionType(qDto.getType())
+                        .isRequired(qDto.getIsRequired())
+                        .displayOrder(changed.get(key))
                         .build());
-            });
+                continue;
+            }
+            existing.get(key).updateQuestion(qDto.getText(), qDto.getType(), qDto.getIsRequired(),
+                    changed.getOrDefault(key, currentOrders.get(key)));
+        }
+
+        Set<Long> kept = new HashSet<>(sequence);
+        existing.forEach((id, question) -> {
+            if (!kept.contains(id)) {
+                job.removeQuestion(question);
+            }
+        });
+        added.forEach(job::addQuestion);
+    }
+
+    /**
+     * 요청 목록의 순서 (GapOrdering.plan 입력)
+     * 기존 항목은 ID, 새 항목은 임시 음수 키(-1, -2 ...)로 표시합니다. (DB ID는 양수)
+     */
+    private static <T> List<Long> orderSequence(List<T> requested, Function<T, Long> idOf,
+                                                Set<Long> existingIds, String itemName) {
+        List<Long> sequence = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < requested.size(); i++) {
+            Long id = idOf.apply(requested.get(i));
+            if (id == null) {
+                sequence.add(-(i + 1L));
+                continue;
+            }
+            if (!existingIds.contains(id)) {
+                throw new IllegalArgumentException("공고에 속하지 않은 " + itemName + "입니다: " + id);
+            }
+            if (!seen.add(id)) {
+                throw new IllegalArgumentException("중복된 " + itemName + "입니다: " + id);
+            }
+            sequence.add(id);
         }
+        return sequence;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+-- =========================================================
+-- 001. 낙관적 락 버전 컬럼 추가 (ETag / If-None-Match 지원)
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+-- =========================================================
+
+ALTER TABLE jobs ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
+
+ALTER TABLE job_categories ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
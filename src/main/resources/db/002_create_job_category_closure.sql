@@ -0,0 +1,28 @@
+-- =========================================================
+-- 002. 카테고리 closure table (하위 카테고리 포함 검색)
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+-- 이후 행은 CategoryService가 등록/부모 변경/삭제 시 갱신합니다.
+-- =========================================================
+
+CREATE TABLE job_category_closure (
+    ancestor_id   NUMBER(10) NOT NULL,
+    descendant_id NUMBER(10) NOT NULL,
+    depth         NUMBER(10) NOT NULL,
+    CONSTRAINT pk_job_category_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_jcc_ancestor FOREIGN KEY (ancestor_id) REFERENCES job_categories (id),
+    CONSTRAINT fk_jcc_descendant FOREIGN KEY (descendant_id) REFERENCES job_categories (id)
+);
+
+-- 자손 → 조상 방향 조회 (부모 변경/삭제 시)
+CREATE INDEX idx_jcc_descendant ON job_category_closure (descendant_id, ancestor_id);
+
+-- 하위 카테고리 조건 (jobs.category_id IN 자손) 조인용 (이미 있으면 생략)
+CREATE INDEX idx_jobs_category ON jobs (category_id);
+
+-- 기존 카테고리 계층으로 초기 데이터 적재 (자기 자신 depth 0 포함)
+INSERT INTO job_category_closure (ancestor_id, descendant_id, depth)
+SELECT CONNECT_BY_ROOT id, id, LEVEL - 1
+FROM job_categories
+CONNECT BY PRIOR id = parent_id;
+
+COMMIT;
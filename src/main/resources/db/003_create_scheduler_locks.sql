@@ -0,0 +1,21 @@
+-- =========================================================
+-- 003. 스케줄 작업 리더 잠금 테이블 (다중 노드 중 한 곳만 마감 처리 실행)
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+-- =========================================================
+
+CREATE TABLE scheduler_locks (
+    name         VARCHAR2(64)  NOT NULL,
+    owner        VARCHAR2(128) NOT NULL,
+    locked_at    TIMESTAMP     NOT NULL,
+    locked_until TIMESTAMP     NOT NULL,
+    CONSTRAINT pk_scheduler_locks PRIMARY KEY (name)
+);
+
+-- 만료된 상태로 미리 생성 (첫 노드가 UPDATE로 바로 획득)
+INSERT INTO scheduler_locks (name, owner, locked_at, locked_until)
+VALUES ('scheduler', '-', SYSTIMESTAMP, SYSTIMESTAMP);
+
+-- 청크 단위 마감 대상 조회용 (status, deadline)
+CREATE INDEX idx_jobs_status_deadline ON jobs (status, deadline);
+
+COMMIT;
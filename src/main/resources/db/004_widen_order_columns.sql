@@ -0,0 +1,31 @@
+-- =========================================================
+-- 004. 전형 단계/문항 정렬값 컬럼 확장 (간격 기반 정렬값)
+-- 정렬값 사이에 간격(1024)을 두므로 NUMBER(3) 범위를 넘습니다.
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+--
+-- 기존 행은 1, 2, 3 ... 으로 촘촘하게 저장되어 있어 첫 이동부터 전체 재번호가 일어나므로,
+-- 공고별 현재 순서(정렬값, id)를 유지한 채 1024, 2048, 3072 ... 로 다시 매깁니다.
+-- (GapOrdering.GAP과 같은 값이어야 합니다)
+-- =========================================================
+
+ALTER TABLE job_steps MODIFY (step_order NUMBER(10));
+
+ALTER TABLE job_questions MODIFY (display_order NUMBER(10));
+
+MERGE INTO job_steps s
+USING (SELECT id,
+              ROW_NUMBER() OVER (PARTITION BY job_id ORDER BY step_order, id) * 1024 AS new_order
+       FROM job_steps) r
+ON (s.id = r.id)
+WHEN MATCHED THEN UPDATE SET s.step_order = r.new_order
+    WHERE s.step_order <> r.new_order;
+
+MERGE INTO job_questions q
+USING (SELECT id,
+              ROW_NUMBER() OVER (PARTITION BY job_id ORDER BY display_order, id) * 1024 AS new_order
+       FROM job_questions) r
+ON (q.id = r.id)
+WHEN MATCHED THEN UPDATE SET q.display_order = r.new_order
+    WHERE q.display_order <> r.new_order;
+
+COMMIT;
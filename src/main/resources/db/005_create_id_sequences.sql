@@ -0,0 +1,35 @@
+-- =========================================================
+-- 005. IDENTITY 컬럼 → 시퀀스(pooled) 기반 ID 전환
+-- 엔티티가 시퀀스를 50개 단위(allocationSize = 50)로 미리 할당받아 INSERT 전에 ID를 알 수 있으므로
+-- Hibernate가 공고/전형 단계/문항 INSERT를 JDBC 배치로 묶을 수 있습니다.
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+--
+-- - 시퀀스 INCREMENT BY는 엔티티의 allocationSize(50)와 반드시 같아야 합니다.
+-- - 시퀀스 시작값은 기존 최대 ID + 50 (pooled 방식은 조회값을 구간의 끝으로 사용 → 최대 ID + 1부터 발급)
+-- - 애플리케이션을 내린 상태에서 적용한 뒤 새 버전으로 기동합니다.
+-- =========================================================
+
+DECLARE
+    TYPE name_list IS TABLE OF VARCHAR2(30);
+    tables name_list := name_list('jobs', 'job_steps', 'job_questions', 'companies',
+                                  'job_categories', 'users', 'roles');
+    max_id NUMBER;
+BEGIN
+    FOR i IN 1 .. tables.COUNT LOOP
+        -- IDENTITY 속성 제거 (애플리케이션이 ID를 직접 지정해 INSERT)
+        BEGIN
+            EXECUTE IMMEDIATE 'ALTER TABLE ' || tables(i) || ' MODIFY (id DROP IDENTITY)';
+        EXCEPTION
+            WHEN OTHERS THEN
+                IF SQLCODE != -30673 THEN -- ORA-30673: IDENTITY 컬럼이 아님 (이미 전환됨)
+                    RAISE;
+                END IF;
+        END;
+
+        EXECUTE IMMEDIATE 'SELECT NVL(MAX(id), 0) FROM ' || tables(i) INTO max_id;
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || tables(i) || '_seq'
+            || ' START WITH ' || (max_id + 50)
+            || ' INCREMENT BY 50 CACHE 20 NOCYCLE';
+    END LOOP;
+END;
+/
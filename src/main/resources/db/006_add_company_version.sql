@@ -0,0 +1,7 @@
+-- =========================================================
+-- 006. 기업 버전 컬럼 추가 (공고 상세 ETag)
+-- 공고 상세 응답에 기업명이 포함되므로, 기업명 변경 시 ETag가 바뀌도록 기업 버전을 ETag에 포함합니다.
+-- spring.sql.init.mode=never 이므로 운영 DB에 수동으로 적용합니다. (Oracle)
+-- =========================================================
+
+ALTER TABLE companies ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
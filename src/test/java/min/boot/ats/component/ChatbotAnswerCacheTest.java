@@ -0,0 +1,60 @@
+package min.boot.ats.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatbotAnswerCache 질문 정규화/캐시 키 테스트
+ */
+class ChatbotAnswerCacheTest {
+
+    private final ChatbotAnswerCache cache = new ChatbotAnswerCache(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("정규화: 띄어쓰기/문장부호/대소문자/전각 문자 차이 무시")
+    void normalizeIgnoresSpacingPunctuationCaseAndWidth() {
+        assertThat(ChatbotAnswerCache.normalize("공고 등록 방법?")).isEqualTo("공고등록방법");
+        assertThat(ChatbotAnswerCache.normalize("  공고등록\t방법!!  ")).isEqualTo("공고등록방법");
+        assertThat(ChatbotAnswerCache.normalize("ATS 요금은?")).isEqualTo("ats요금은");
+        assertThat(ChatbotAnswerCache.normalize("ＡＴＳ　요금은？")).isEqualTo("ats요금은"); // 전각 영문/공백/물음표
+        assertThat(ChatbotAnswerCache.normalize("2024년 채용")).isEqualTo("2024년채용");
+        assertThat(ChatbotAnswerCache.normalize("?!.,")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키: 질문만 있는 요청은 정규화한 질문, 같은 질문의 표기 차이는 같은 키")
+    void keyIsNormalizedQuestion() {
+        assertThat(cache.key(Map.of("message", "비밀번호 재설정 방법?")))
+                .isEqualTo("비밀번호재설정방법")
+                .isEqualTo(cache.key(Map.of("message", "비밀번호재설정 방법")));
+    }
+
+    @Test
+    @DisplayName("키: 다른 필드가 있거나, 질문이 없거나 너무 길거나 문자가 없으면 캐시하지 않음(null)")
+    void keyIsNullWhenNotCacheable() {
+        assertThat(cache.key(Map.of("message", "공고 등록 방법", "lang", "ko"))).isNull();
+        assertThat(cache.key(Map.of("lang", "ko"))).isNull();
+        assertThat(cache.key(Map.of("message", "가".repeat(301)))).isNull();
+        assertThat(cache.key(Map.of("message", "???"))).isNull();
+
+        assertThat(cache.key(Map.of("message", "가".repeat(300)))).isNotNull();
+        assertThat(cache.stats()).containsEntry("bypassed", 4L);
+    }
+
+    @Test
+    @DisplayName("정규화한 키로 저장한 답변은 표기가 다른 같은 질문으로 조회됨")
+    void answerIsSharedAcrossSpellings() {
+        Map<String, Object> answer = Map.of("answer", "기업 관리 메뉴에서 등록합니다.");
+        cache.put(cache.key(Map.of("message", "공고 등록 방법?")), answer);
+
+        assertThat(cache.getIfPresent(cache.key(Map.of("message", "공고등록 방법")))).isEqualTo(answer);
+
+        cache.invalidateAll();
+        assertThat(cache.getIfPresent(cache.key(Map.of("message", "공고등록 방법")))).isNull();
+    }
+}
@@ -0,0 +1,268 @@
+package min.boot.ats.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ChatbotClient 단위 테스트 (스프링 컨텍스트/DB 없이 로컬 스텁 서버로 Flask 서버를 대신함)
+ */
+class ChatbotClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private HttpServer stub;
+    private volatile int stubStatus = 200;
+    private volatile long stubDelayMillis;
+    private volatile CountDownLatch stubGate;
+
+    // 스트리밍 스텁: streamChunks를 순서대로 보내되, 첫 조각 뒤 streamGate를 기다리고 조각 사이마다 streamDelayMillis 대기
+    private volatile List<byte[]> streamChunks = List.of();
+    private volatile CountDownLatch streamGate;
+    private volatile long streamDelayMillis;
+    private final CountDownLatch streamAborted = new CountDownLatch(1);
+    private ChatbotClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/api/chatbot/ask", exchange -> {
+            hits.incrementAndGet();
+            byte[] question = exchange.getRequestBody().readAllBytes();
+            try {
+                if (stubGate != null) {
+                    stubGate.await(5, TimeUnit.SECONDS);
+                }
+                Thread.sleep(stubDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"answer\":\"stub\",\"question\":" + new String(question, StandardCharsets.UTF_8) + "}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(stubStatus, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.createContext("/api/chatbot/ask/stream", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0); // chunked
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < streamChunks.size(); i++) {
+                    out.write(streamChunks.get(i));
+                    out.flush();
+                    if (i == 0 && streamGate != null) {
+                        streamGate.await(5, TimeUnit.SECONDS);
+                    }
+                    Thread.sleep(streamDelayMillis);
+                }
+            } catch (IOException e) {
+                streamAborted.countDown(); // 클라이언트가 연결을 끊음
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        stub.stop(0);
+    }
+
+    private ChatbotClient client(Duration readTimeout, int maxConcurrent, Duration openDuration) {
+        client = new ChatbotClient("http://127.0.0.1:" + stub.getAddress().getPort(),
+                Duration.ofSeconds(1), readTimeout, maxConcurrent,
+                new CircuitBreaker(4, 4, 0.5, openDuration), new ObjectMapper(), meterRegistry);
+        return client;
+    }
+
+    @Test
+    @DisplayName("질문을 전달하고 답변 JSON을 그대로 반환")
+    void askReturnsUpstreamAnswer() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(2), 10, Duration.ofSeconds(30));
+
+        Map<String, Object> answer = client.ask(Map.of("message", "채용 절차")).get(5, TimeUnit.SECONDS);
+
+        assertThat(answer).containsEntry("answer", "stub");
+        assertThat(answer.get("question")).isEqualTo(Map.of("message", "채용 절차"));
+        assertThat(meterRegistry.timer("chatbot.upstream", "mode", "ask", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃을 넘기면 타임아웃으로 실패")
+    void slowUpstreamTimesOut() {
+        ChatbotClient client = client(Duration.ofMillis(200), 10, Duration.ofSeconds(30));
+        stubDelayMillis = 2000;
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.ask(Map.of("message", "q")).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.timer("chatbot.upstream", "mode", "ask", "outcome", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 누적되면 서킷이 열려 호출 없이 즉시 실패하고, 시험 호출 성공 후 다시 닫힘")
+    void circuitOpensAndRecovers() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(2), 10, Duration.ofMillis(300));
+        stubStatus = 500;
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.ask(Map.of("message", "q")).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class);
+        }
+        assertThat(client.stats()).containsEntry("circuitState", CircuitBreaker.State.OPEN);
+
+        // 서킷이 열린 동안은 스텁 서버까지 가지 않음
+        int hitsBefore = hits.get();
+        assertThatThrownBy(() -> client.ask(Map.of("message", "q")).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(hits.get()).isEqualTo(hitsBefore);
+        assertThat(meterRegistry.counter("chatbot.upstream.rejected", "reason", "circuit_open").count()).isEqualTo(1);
+
+        // 차단 시간이 지나면 시험 호출 1건 허용 → 성공 시 CLOSED
+        stubStatus = 200;
+        Thread.sleep(400);
+        assertThat(client.ask(Map.of("message", "q")).get(5, TimeUnit.SECONDS)).containsEntry("answer", "stub");
+        assertThat(client.stats()).containsEntry("circuitState", CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 대기 없이 즉시 거절")
+    void bulkheadRejectsExcessCalls() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(5), 2, Duration.ofSeconds(30));
+        stubGate = new CountDownLatch(1);
+
+        CompletableFuture<Map<String, Object>> first = client.ask(Map.of("message", "1"));
+        CompletableFuture<Map<String, Object>> second = client.ask(Map.of("message", "2"));
+        CompletableFuture<Map<String, Object>> third = client.ask(Map.of("message", "3"));
+
+        assertThat(third).isCompletedExceptionally();
+        assertThat(client.stats()).containsEntry("inFlight", 2);
+        assertThat(meterRegistry.counter("chatbot.upstream.rejected", "reason", "bulkhead").count()).isEqualTo(1);
+
+        stubGate.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry("answer", "stub");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry("answer", "stub");
+        assertThat(client.stats()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 조각을 받는 즉시 전달하고, 조각 경계에서 잘린 한글도 이어 붙임")
+    void streamDeliversChunksAsTheyArrive() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(2), 10, Duration.ofSeconds(30));
+        byte[] text = "안녕하세요, 채용 안내입니다.".getBytes(StandardCharsets.UTF_8);
+        streamChunks = List.of(Arrays.copyOfRange(text, 0, 4), Arrays.copyOfRange(text, 4, 11),
+                Arrays.copyOfRange(text, 11, text.length)); // 한글 3바이트 중간에서 자름
+        streamGate = new CountDownLatch(1);
+
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        CompletableFuture<Void> call = client.stream(Map.of("message", "q"), chunk -> {
+            received.add(chunk);
+            firstChunk.countDown();
+        });
+
+        // 스텁이 나머지를 보내기 전에 첫 조각이 먼저 도착
+        assertThat(firstChunk.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(call).isNotDone();
+        assertThat(received).containsExactly("안");
+
+        streamGate.countDown();
+        call.get(5, TimeUnit.SECONDS);
+        assertThat(String.join("", received)).isEqualTo("안녕하세요, 채용 안내입니다.");
+        assertThat(meterRegistry.timer("chatbot.upstream", "mode", "stream", "outcome", "success").count()).isEqualTo(1);
+        assertThat(client.stats()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 받는 쪽이 끊기면(전달 실패) 외부 호출도 끊고 서킷 실패로 세지 않음")
+    void streamStopsUpstreamWhenReceiverFails() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(2), 10, Duration.ofSeconds(30));
+        streamChunks = Collections.nCopies(200, "조각".getBytes(StandardCharsets.UTF_8));
+        streamDelayMillis = 20;
+
+        AtomicInteger delivered = new AtomicInteger();
+        CompletableFuture<Void> call = client.stream(Map.of("message", "q"), chunk -> {
+            if (delivered.incrementAndGet() == 3) {
+                throw new IllegalStateException("client disconnected");
+            }
+        });
+
+        assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CancellationException.class);
+        assertThat(streamAborted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered.get()).isEqualTo(3);
+        assertThat(client.stats()).containsEntry("inFlight", 0).containsEntry("failureRate", 0.0);
+        assertThat(meterRegistry.timer("chatbot.upstream", "mode", "stream", "outcome", "cancelled").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 반환된 future를 취소하면 외부 호출을 끊음")
+    void streamCancelClosesUpstream() throws Exception {
+        ChatbotClient client = client(Duration.ofSeconds(2), 10, Duration.ofSeconds(30));
+        streamChunks = Collections.nCopies(200, "조각".getBytes(StandardCharsets.UTF_8));
+        streamDelayMillis = 20;
+
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        CompletableFuture<Void> call = client.stream(Map.of("message", "q"), chunk -> firstChunk.countDown());
+        assertThat(firstChunk.await(5, TimeUnit.SECONDS)).isTrue();
+
+        call.cancel(true);
+
+        assertThat(streamAborted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(client.stats()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 조각 사이 간격이 타임아웃을 넘기면 타임아웃으로 실패")
+    void streamIdleTimesOut() {
+        ChatbotClient client = client(Duration.ofMillis(300), 10, Duration.ofSeconds(30));
+        streamChunks = List.of("첫 조각".getBytes(StandardCharsets.UTF_8), "늦은 조각".getBytes(StandardCharsets.UTF_8));
+        streamDelayMillis = 3000;
+
+        assertThatThrownBy(() -> client.stream(Map.of("message", "q"), chunk -> {
+        }).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+        assertThat(meterRegistry.timer("chatbot.upstream", "mode", "stream", "outcome", "timeout").count()).isEqualTo(1);
+        assertThat(client.stats()).containsEntry("inFlight", 0);
+    }
+}
@@ -0,0 +1,197 @@
+package min.boot.ats.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ChatbotRequestCoalescer 단위 테스트 (Flask 호출 대신 테스트가 직접 완료시키는 future 사용)
+ */
+class ChatbotRequestCoalescerTest {
+
+    private static final Map<String, Object> ANSWER = Map.of("answer", "공고 등록은 기업 관리 메뉴에서 합니다.");
+
+    private final ChatbotRequestCoalescer coalescer = new ChatbotRequestCoalescer(new SimpleMeterRegistry());
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    // 호출 횟수를 세고, 테스트가 완료시킬 upstream future를 반환
+    private Supplier<CompletableFuture<Map<String, Object>>> call(CompletableFuture<Map<String, Object>> upstream) {
+        return () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        };
+    }
+
+    @Test
+    @DisplayName("키: 띄어쓰기/문장부호/대소문자 차이와 필드 순서는 무시, 다른 맥락 필드는 구분")
+    void keyNormalizesQuestionAndContext() {
+        assertThat(coalescer.key(Map.of("message", "공고 등록 방법?")))
+                .isEqualTo(coalescer.key(Map.of("message", "공고등록방법")));
+        assertThat(coalescer.key(Map.of("message", "ATS 요금", "lang", "ko", "page", "jobs")))
+                .isEqualTo(coalescer.key(Map.of("page", "jobs", "lang", "ko", "message", "ats 요금!")));
+        assertThat(coalescer.key(Map.of("message", "ATS 요금", "lang", "ko")))
+                .isNotEqualTo(coalescer.key(Map.of("message", "ATS 요금", "lang", "en")))
+                .isNotEqualTo(coalescer.key(Map.of("message", "ATS 요금")));
+
+        assertThat(coalescer.key(Map.of("message", " ?! "))).isNull();
+        assertThat(coalescer.key(Map.of("lang", "ko"))).isNull();
+    }
+
+    @Test
+    @DisplayName("호출 중인 같은 질문은 upstream을 다시 부르지 않고 leader의 결과를 함께 받음")
+    void followerSharesLeaderResult() throws Exception {
+        CompletableFuture<Map<String, Object>> upstream = new CompletableFuture<>();
+
+        CompletableFuture<Map<String, Object>> leader = coalescer.ask("q", call(upstream));
+        CompletableFuture<Map<String, Object>> follower = coalescer.ask("q", call(new CompletableFuture<>()));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(leader).isNotDone();
+        assertThat(follower).isNotDone();
+        assertThat(coalescer.stats()).containsEntry("inFlight", 1);
+
+        upstream.complete(ANSWER);
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+        assertThat(coalescer.stats())
+                .containsEntry("inFlight", 0)
+                .containsEntry("leaders", 1L)
+                .containsEntry("followers", 1L)
+                .containsEntry("coalescingRatio", 0.5);
+    }
+
+    @Test
+    @DisplayName("결과를 받는 시점에는 키가 이미 제거되어, 완료 콜백에서 같은 질문을 하면 새로 호출")
+    void keyIsRemovedBeforeCallersComplete() throws Exception {
+        CompletableFuture<Map<String, Object>> upstream = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> next = new CompletableFuture<>();
+        List<CompletableFuture<Map<String, Object>>> asked = new ArrayList<>();
+
+        coalescer.ask("q", call(upstream))
+                .thenRun(() -> asked.add(coalescer.ask("q", call(next))));
+        upstream.complete(ANSWER);
+
+        assertThat(asked).hasSize(1);
+        assertThat(upstreamCalls).hasValue(2); // 완료된 호출에 붙지 않고 새 leader가 됨
+        assertThat(asked.get(0)).isNotDone();
+
+        next.complete(Map.of("answer", "새 답변"));
+        assertThat(asked.get(0).get(1, TimeUnit.SECONDS)).containsEntry("answer", "새 답변");
+    }
+
+    @Test
+    @DisplayName("한 호출자가 취소해도 upstream과 다른 호출자에는 영향 없음")
+    void cancelledFollowerDoesNotAffectOthers() throws Exception {
+        CompletableFuture<Map<String, Object>> upstream = new CompletableFuture<>();
+
+        CompletableFuture<Map<String, Object>> leader = coalescer.ask("q", call(upstream));
+        CompletableFuture<Map<String, Object>> cancelled = coalescer.ask("q", call(new CompletableFuture<>()));
+        CompletableFuture<Map<String, Object>> follower = coalescer.ask("q", call(new CompletableFuture<>()));
+
+        assertThat(cancelled.cancel(true)).isTrue();
+        assertThat(upstream).isNotDone();
+
+        upstream.complete(ANSWER);
+
+        assertThat(cancelled).isCancelled();
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+
+        // leader가 취소해도 마찬가지
+        CompletableFuture<Map<String, Object>> second = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> cancelledLeader = coalescer.ask("q2", call(second));
+        CompletableFuture<Map<String, Object>> waiting = coalescer.ask("q2", call(new CompletableFuture<>()));
+        cancelledLeader.cancel(true);
+        second.complete(ANSWER);
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+    }
+
+    @Test
+    @DisplayName("upstream 오류는 모든 호출자에게 전달되고, 이후 요청은 다시 호출")
+    void upstreamErrorPropagatesToAllCallers() {
+        CompletableFuture<Map<String, Object>> upstream = new CompletableFuture<>();
+        IllegalStateException failure = new IllegalStateException("circuit open");
+
+        CompletableFuture<Map<String, Object>> leader = coalescer.ask("q", call(upstream));
+        CompletableFuture<Map<String, Object>> follower = coalescer.ask("q", call(new CompletableFuture<>()));
+        upstream.completeExceptionally(failure);
+
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("circuit open");
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("circuit open");
+
+        coalescer.ask("q", call(CompletableFuture.completedFuture(ANSWER)));
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("호출 시작 중 예외가 나도 실패한 future로 전달하고 키를 남기지 않음")
+    void synchronousFailureIsReturnedAsFailedFuture() {
+        CompletableFuture<Map<String, Object>> result = coalescer.ask("q", () -> {
+            throw new IllegalStateException("bulkhead full");
+        });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(coalescer.stats()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("키가 null이면 병합하지 않고 매번 호출")
+    void nullKeyIsNotCoalesced() {
+        coalescer.ask(null, call(new CompletableFuture<>()));
+        coalescer.ask(null, call(new CompletableFuture<>()));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(coalescer.stats()).containsEntry("inFlight", 0).containsEntry("leaders", 2L);
+    }
+
+    @Test
+    @DisplayName("같은 순간 몰린 같은 질문 50건은 upstream 1회로 처리")
+    void concurrentIdenticalQuestionsCallUpstreamOnce() throws Exception {
+        CompletableFuture<Map<String, Object>> upstream = new CompletableFuture<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<Map<String, Object>>>> submitted = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                submitted.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.ask("q", call(upstream));
+                }));
+            }
+            start.countDown();
+
+            List<CompletableFuture<Map<String, Object>>> callers = new ArrayList<>();
+            for (Future<CompletableFuture<Map<String, Object>>> future : submitted) {
+                callers.add(future.get(5, TimeUnit.SECONDS));
+            }
+            upstream.complete(ANSWER);
+
+            for (CompletableFuture<Map<String, Object>> caller : callers) {
+                assertThat(caller.get(1, TimeUnit.SECONDS)).isEqualTo(ANSWER);
+            }
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(coalescer.stats()).containsEntry("leaders", 1L).containsEntry("followers", 49L);
+    }
+}
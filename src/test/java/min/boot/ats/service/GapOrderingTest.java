@@ -0,0 +1,177 @@
+package min.boot.ats.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GapOrdering 정렬값 계산 테스트
+ * 항목 ID는 1, 2, 3 ... 을 쓰고, 계산된 변경분을 적용한 정렬값이 목표 순서대로 증가하는지 함께 확인합니다.
+ */
+class GapOrderingTest {
+
+    private static final int GAP = GapOrdering.GAP;
+
+    // 항목 ID 1..n, 정렬값 orders[i]
+    private static Map<Long, Integer> orders(int... orders) {
+        Map<Long, Integer> current = new LinkedHashMap<>();
+        for (int i = 0; i < orders.length; i++) {
+            current.put((long) i + 1, orders[i]);
+        }
+        return current;
+    }
+
+    // 변경분 적용 후 목표 순서대로 정렬값이 순증가하는지 확인
+    private static void assertOrdered(List<Long> sequence, Map<Long, Integer> current, Map<Long, Integer> changed) {
+        Map<Long, Integer> applied = new HashMap<>(current);
+        applied.putAll(changed);
+        for (int i = 1; i < sequence.size(); i++) {
+            assertThat(applied.get(sequence.get(i)))
+                    .as("%d번째 항목 정렬값", i)
+                    .isGreaterThan(applied.get(sequence.get(i - 1)));
+        }
+        assertThat(applied.values()).allMatch(order -> order >= 0);
+    }
+
+    @Test
+    @DisplayName("등록/수정/가져오기 정렬값은 GAP 간격 (1번째 = GAP)")
+    void spacedOrdersStartAtGap() {
+        assertThat(GapOrdering.spaced(0)).isEqualTo(GAP);
+        assertThat(GapOrdering.spaced(1)).isEqualTo(2 * GAP);
+        assertThat(GapOrdering.spaced(29)).isEqualTo(30 * GAP);
+        assertThatThrownBy(() -> GapOrdering.spaced(Integer.MAX_VALUE / GAP))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("순서가 그대로면 변경 없음")
+    void unchangedSequenceUpdatesNothing() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP, 3 * GAP);
+
+        assertThat(GapOrdering.plan(List.of(1L, 2L, 3L), current)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("간격이 있으면 옮긴 항목 1건만 앞뒤 정렬값 사이로 변경")
+    void moveInsideGapChangesOnlyMovedItem() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP, 3 * GAP, 4 * GAP);
+        List<Long> sequence = GapOrdering.move(current.keySet(), 4L, 1L); // 1, 4, 2, 3
+
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, current);
+
+        assertThat(changed).containsOnlyKeys(4L);
+        assertThat(changed.get(4L)).isStrictlyBetween(GAP, 2 * GAP);
+        assertOrdered(sequence, current, changed);
+    }
+
+    @Test
+    @DisplayName("맨 앞/맨 뒤로 옮겨도 옮긴 항목 1건만 변경")
+    void moveToEdgesChangesOnlyMovedItem() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP, 3 * GAP);
+
+        List<Long> toFront = GapOrdering.move(current.keySet(), 3L, null); // 3, 1, 2
+        Map<Long, Integer> front = GapOrdering.plan(toFront, current);
+        assertThat(front).containsOnlyKeys(3L);
+        assertThat(front.get(3L)).isBetween(0, GAP - 1);
+        assertOrdered(toFront, current, front);
+
+        List<Long> toBack = GapOrdering.move(current.keySet(), 1L, 3L); // 2, 3, 1
+        Map<Long, Integer> back = GapOrdering.plan(toBack, current);
+        assertThat(back).containsOnlyKeys(1L);
+        assertThat(back.get(1L)).isEqualTo(3 * GAP + GAP);
+        assertOrdered(toBack, current, back);
+    }
+
+    @Test
+    @DisplayName("최장 증가 부분 수열은 유지하고 나머지만 변경")
+    void longestIncreasingSubsequenceIsKept() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP, 6 * GAP);
+        List<Long> sequence = List.of(2L, 3L, 1L, 4L, 6L, 5L); // 2, 3, 4, 5(또는 6) 유지 가능
+
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, current);
+
+        assertThat(changed).hasSize(2);
+        assertOrdered(sequence, current, changed);
+    }
+
+    @Test
+    @DisplayName("사이에 남은 값이 없으면 전체를 GAP 간격으로 다시 매기고 바뀐 항목만 반환")
+    void noRoomLeftRenumbersWholeList() {
+        Map<Long, Integer> current = orders(1, 2, 3); // 간격 없이 촘촘한 정렬값
+        List<Long> sequence = GapOrdering.move(current.keySet(), 3L, 1L); // 1, 3, 2
+
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, current);
+
+        assertThat(changed).containsExactly(Map.entry(1L, GAP), Map.entry(3L, 2 * GAP), Map.entry(2L, 3 * GAP));
+        assertOrdered(sequence, current, changed);
+    }
+
+    @Test
+    @DisplayName("맨 뒤 정렬값이 int 범위를 넘게 되면 전체를 다시 매김")
+    void overflowAtTailRenumbersWholeList() {
+        Map<Long, Integer> current = orders(GAP, Integer.MAX_VALUE - 10, Integer.MAX_VALUE - 5);
+        List<Long> sequence = GapOrdering.move(current.keySet(), 1L, 3L); // 2, 3, 1
+
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, current);
+
+        assertThat(changed).containsEntry(2L, GAP).containsEntry(3L, 2 * GAP).containsEntry(1L, 3 * GAP);
+        assertOrdered(sequence, current, changed);
+    }
+
+    @Test
+    @DisplayName("새 항목(현재 정렬값 없음)은 앞뒤 사이 값으로 추가하고 기존 항목은 유지")
+    void newItemsAreInsertedBetweenExistingOrders() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP);
+        List<Long> sequence = List.of(-1L, 1L, -2L, 2L, -3L); // 음수 = 새 항목
+
+        Map<Long, Integer> changed = GapOrdering.plan(sequence, current);
+
+        assertThat(changed).containsOnlyKeys(-1L, -2L, -3L);
+        assertOrdered(sequence, current, changed);
+    }
+
+    @Test
+    @DisplayName("이동으로 간격이 불규칙해진 뒤 순서 그대로 수정하면 정렬값 변경 없음")
+    void unchangedSequenceAfterMoveUpdatesNothing() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP, 3 * GAP);
+        List<Long> moved = GapOrdering.move(current.keySet(), 3L, 1L); // 1, 3, 2
+        current.putAll(GapOrdering.plan(moved, current));
+
+        assertThat(GapOrdering.plan(moved, current)).isEmpty();
+        assertThat(GapOrdering.plan(List.of(1L, 3L, 2L, -1L), current)).containsOnlyKeys(-1L);
+    }
+
+    @Test
+    @DisplayName("유지할 기존 항목이 없으면(전체 교체) GAP 간격으로 매김")
+    void allNewItemsAreSpaced() {
+        Map<Long, Integer> changed = GapOrdering.plan(List.of(-1L, -2L, -3L), orders(GAP, 2 * GAP));
+
+        assertThat(changed).containsExactly(Map.entry(-1L, GAP), Map.entry(-2L, 2 * GAP), Map.entry(-3L, 3 * GAP));
+    }
+
+    @Test
+    @DisplayName("이동/전체 순서 요청 검증")
+    void invalidRequestsAreRejected() {
+        Map<Long, Integer> current = orders(GAP, 2 * GAP);
+
+        assertThatThrownBy(() -> GapOrdering.move(current.keySet(), 9L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GapOrdering.move(current.keySet(), 1L, 9L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GapOrdering.move(current.keySet(), 1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GapOrdering.complete(List.of(1L, 1L), current.keySet()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GapOrdering.complete(List.of(9L), current.keySet()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(GapOrdering.complete(List.of(2L), current.keySet())).containsExactly(2L, 1L);
+    }
+}
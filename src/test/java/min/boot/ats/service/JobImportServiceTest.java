@@ -0,0 +1,134 @@
+package min.boot.ats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import min.boot.ats.component.JobImportTracker;
+import min.boot.ats.domain.Job;
+import min.boot.ats.repo.CompanyRepository;
+import min.boot.ats.repo.JobCategoryRepository;
+import min.boot.ats.repo.UserRepository;
+import org.hibernate.exception.DataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobImportService 청크 저장/행 단위 재시도 테스트 (DB 없이 EntityManager를 대역으로 사용)
+ * 대역 EntityManager는 flush 시 제목이 DB_REJECT인 공고가 있으면 공유 EntityManager처럼
+ * 변환되지 않은 Hibernate 예외(PersistenceException)를 던집니다.
+ */
+class JobImportServiceTest {
+
+    private static final String REJECTED_TITLE = "DB_REJECT";
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final List<Job> persisted = new ArrayList<>();    // 현재 트랜잭션에서 persist한 공고
+    private final List<String> committed = new ArrayList<>(); // flush에 성공한 공고 제목
+    private final AtomicLong sequence = new AtomicLong();
+
+    private JobImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", sequence.incrementAndGet());
+            persisted.add(job);
+            return null;
+        }).when(entityManager).persist(any(Job.class));
+        doAnswer(invocation -> {
+            if (persisted.stream().anyMatch(job -> REJECTED_TITLE.equals(job.getTitle()))) {
+                throw new DataException("could not execute batch",
+                        new SQLException("ORA-12899: value too large for column", "72000", 12899));
+            }
+            persisted.forEach(job -> committed.add(job.getTitle()));
+            return null;
+        }).when(entityManager).flush();
+        doAnswer(invocation -> {
+            persisted.clear();
+            return null;
+        }).when(entityManager).clear();
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        CompanyRepository companyRepository = mock(CompanyRepository.class);
+        JobCategoryRepository categoryRepository = mock(JobCategoryRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(companyRepository.existsById(anyLong())).thenReturn(true);
+        when(categoryRepository.existsById(anyLong())).thenReturn(true);
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+
+        importService = new JobImportService(entityManager, transactionManager, companyRepository,
+                categoryRepository, userRepository, mock(ApplicationEventPublisher.class),
+                new ObjectMapper().findAndRegisterModules(), new JobImportTracker());
+    }
+
+    private static String row(String title, String location) {
+        return "{\"companyId\":1,\"categoryId\":1,\"title\":\"" + title + "\",\"content\":\"내용\""
+                + (location != null ? ",\"location\":\"" + location + "\"" : "") + "}";
+    }
+
+    private Map<String, Object> importRows(List<String> rows) {
+        byte[] body = String.join("\n", rows).getBytes(StandardCharsets.UTF_8);
+        return importService.importJobs(1L, JobImportService.FORMAT_NDJSON, new ByteArrayInputStream(body));
+    }
+
+    @Test
+    @DisplayName("청크 중 한 행이 DB에서 거부되면 그 행만 실패로 기록하고 나머지 499행은 저장")
+    void rejectedRowIsReportedAndRestOfChunkIsSaved() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            rows.add(row(i == 250 ? REJECTED_TITLE : "공고 " + i, null));
+        }
+
+        Map<String, Object> result = importRows(rows);
+
+        assertThat(result.get("state")).isEqualTo(JobImportTracker.State.COMPLETED);
+        assertThat(result.get("imported")).isEqualTo(499L);
+        assertThat(result.get("failed")).isEqualTo(1L);
+        assertThat(committed).hasSize(499).doesNotContain(REJECTED_TITLE);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get("errors");
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).get("line")).isEqualTo(250L);
+        assertThat((String) errors.get(0).get("message")).contains("ORA-12899");
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 행은 저장 전에 검증 오류로 걸러냄")
+    void overlongColumnIsRejectedBeforeInsert() {
+        Map<String, Object> result = importRows(List.of(
+                row("정상 공고", "서울"),
+                row("긴 근무지 공고", "가".repeat(256))));
+
+        assertThat(result.get("imported")).isEqualTo(1L);
+        assertThat(result.get("failed")).isEqualTo(1L);
+        assertThat(committed).containsExactly("정상 공고");
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get("errors");
+        assertThat(errors.get(0).get("line")).isEqualTo(2L);
+        assertThat((String) errors.get(0).get("message")).contains("근무지");
+    }
+}